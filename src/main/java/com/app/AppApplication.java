@@ -2,6 +2,7 @@ package com.app;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Entry point for the TalonOneApp Spring Boot application.
@@ -9,6 +10,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * for an e-commerce platform, and connects to a PostgreSQL database for persistence.
  */
 @SpringBootApplication
+@EnableScheduling
 public class AppApplication {
     public static void main(String[] args) {
         SpringApplication.run(AppApplication.class, args);
@@ -0,0 +1,154 @@
+package com.app.archive;
+
+import com.app.model.Money;
+import com.app.model.OrderSummary;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+/**
+ * Cold tier for archived orders, backed by immutable segment files on local disk.
+ * <p>
+ * Segments are opened at startup and whenever the archiver produces a new one. Lookups probe
+ * segments by ID range; aggregate scans run in parallel across segments.
+ *
+ * <p>
+ * Optional properties in application.properties:
+ * <ul>
+ *     <li>orders.archive.directory (default data/order-archive)</li>
+ * </ul>
+ * </p>
+ */
+@Component
+public class OrderArchiveStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderArchiveStore.class);
+
+    private final Path directory;
+    private final List<OrderSegment> segments = new CopyOnWriteArrayList<>();
+
+    public OrderArchiveStore(@Value("${orders.archive.directory:data/order-archive}") String directory) {
+        this.directory = Paths.get(directory);
+    }
+
+    /**
+     * Opens all existing segment files in the archive directory.
+     */
+    @PostConstruct
+    public void open() throws IOException {
+        Files.createDirectories(directory);
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(f -> f.toString().endsWith(OrderSegmentFormat.FILE_SUFFIX)).sorted().toList()) {
+                segments.add(OrderSegment.open(file));
+            }
+        }
+        logger.info("Opened {} order archive segments from {}", segments.size(), directory);
+    }
+
+    /**
+     * Writes a new segment holding the given orders and makes it visible to readers.
+     * Orders already held by an existing segment are skipped, so re-archiving a batch whose
+     * database delete did not complete never stores an order twice.
+     *
+     * @param orders the orders to archive, sorted by ascending ID
+     * @return the path of the new segment, or empty if every order was already archived
+     * @throws IOException if the segment cannot be written
+     */
+    public Optional<Path> append(List<OrderSummary> orders) throws IOException {
+        List<OrderSummary> unarchived = orders.stream().filter(order -> !contains(order.getId())).toList();
+        if (unarchived.isEmpty()) {
+            return Optional.empty();
+        }
+        String name = String.format("orders-%020d-%020d%s",
+                unarchived.get(0).getId(), unarchived.get(unarchived.size() - 1).getId(), OrderSegmentFormat.FILE_SUFFIX);
+        Path target = directory.resolve(name);
+        OrderSegmentWriter.write(target, unarchived);
+        segments.add(OrderSegment.open(target));
+        return Optional.of(target);
+    }
+
+    /**
+     * Removes a segment that was appended but whose source rows could not be deleted.
+     *
+     * @param path the segment to discard
+     */
+    public void discard(Path path) {
+        segments.removeIf(segment -> segment.getPath().equals(path));
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Returns whether an order is already archived.
+     */
+    public boolean contains(long orderId) {
+        for (OrderSegment segment : segments) {
+            if (segment.contains(orderId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds an archived order by ID.
+     */
+    public Optional<OrderSummary> findOrder(long orderId) {
+        for (OrderSegment segment : segments) {
+            Optional<OrderSummary> order = segment.findOrder(orderId);
+            if (order.isPresent()) {
+                return order;
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns all archived orders of a user, scanning segments in parallel.
+     */
+    public List<OrderSummary> ordersForUser(long userId) {
+        return segments.parallelStream()
+                .flatMap(segment -> segment.ordersForUser(userId).stream())
+                .sorted(Comparator.comparing(OrderSummary::getId))
+                .toList();
+    }
+
+    /**
+     * Computes total spend per user across all archived orders, scanning segments in parallel.
+     */
+    public Map<Long, Money> spendPerUser() {
+        Map<Long, Long> spend = new ConcurrentHashMap<>();
+        segments.parallelStream().forEach(segment -> segment.accumulateSpendPerUser(spend));
+        Map<Long, Money> result = new HashMap<>(spend.size() * 2);
+        spend.forEach((userId, minor) -> result.put(userId, Money.ofMinor(minor)));
+        return result;
+    }
+
+    /**
+     * Computes total quantity per SKU across all archived orders, scanning segments in parallel.
+     */
+    public Map<String, Long> skuQuantities() {
+        Map<String, Long> quantities = new ConcurrentHashMap<>();
+        segments.parallelStream().forEach(segment -> segment.accumulateSkuQuantities(quantities));
+        return quantities;
+    }
+}
@@ -0,0 +1,129 @@
+package com.app.archive;
+
+import com.app.model.Order;
+import com.app.model.OrderSummary;
+import com.app.repository.OrderRepository;
+import com.app.service.CatalogService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Scheduled job that moves cold orders out of Postgres into archive segments.
+ * <p>
+ * Each batch is read, written to a new segment and only then deleted from the database.
+ * If the delete is known to have rolled back the segment is discarded; if its outcome is unknown
+ * (a failure at commit) the segment is kept, so an order is never lost. Orders already archived
+ * are not written again, so a batch re-read after an incomplete delete is simply deleted. While
+ * both copies exist, the read path prefers the database copy. Orders without a creation time are
+ * treated as old. Segments are self-contained: each line keeps the SKU, name and price recorded
+ * when the order was placed (resolved from the catalog only for lines saved without them).
+ *
+ * <p>
+ * Optional properties in application.properties:
+ * <ul>
+ *     <li>orders.archive.enabled (default true)</li>
+ *     <li>orders.archive.min-age (default P90D)</li>
+ *     <li>orders.archive.batch-size (default 5000)</li>
+ *     <li>orders.archive.cron (default 0 0 3 * * *)</li>
+ * </ul>
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "orders.archive.enabled", havingValue = "true", matchIfMissing = true)
+public class OrderArchiver {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderArchiver.class);
+
+    private final OrderRepository orderRepository;
+    private final OrderArchiveStore archiveStore;
+    private final CatalogService catalogService;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration minAge;
+    private final int batchSize;
+
+    public OrderArchiver(
+            OrderRepository orderRepository,
+            OrderArchiveStore archiveStore,
+            CatalogService catalogService,
+            TransactionTemplate transactionTemplate,
+            @Value("${orders.archive.min-age:P90D}") Duration minAge,
+            @Value("${orders.archive.batch-size:5000}") int batchSize) {
+        this.orderRepository = orderRepository;
+        this.archiveStore = archiveStore;
+        this.catalogService = catalogService;
+        this.transactionTemplate = transactionTemplate;
+        this.minAge = minAge;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Archives all orders older than the configured age, one segment per batch.
+     */
+    @Scheduled(cron = "${orders.archive.cron:0 0 3 * * *}")
+    public void archiveColdOrders() {
+        Instant cutoff = Instant.now().minus(minAge);
+        int archived = 0;
+        try {
+            int count;
+            while ((count = archiveBatch(cutoff)) > 0) {
+                archived += count;
+            }
+        } catch (Exception ex) {
+            logger.error("Order archival failed after {} orders", archived, ex);
+        }
+        if (archived > 0) {
+            logger.info("Archived {} orders created before {}", archived, cutoff);
+        }
+    }
+
+    private int archiveBatch(Instant cutoff) throws Exception {
+        List<Long> ids = orderRepository.findIdsCreatedBefore(cutoff, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        List<OrderSummary> batch = transactionTemplate.execute(status -> {
+            List<Order> orders = orderRepository.findWithItemsByIdIn(ids);
+            List<OrderSummary> summaries = orders.stream().map(OrderSummary::fromOrder).toList();
+            summaries.forEach(summary -> catalogService.describeItems(summary.getItems()));
+            return summaries;
+        });
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        // Only orders that were loaded into the batch are archived, so only those may be deleted
+        List<Long> archivedIds = batch.stream().map(OrderSummary::getId).toList();
+        Optional<Path> segment = archiveStore.append(batch);
+        AtomicBoolean deleted = new AtomicBoolean();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                orderRepository.deleteItemsByOrderIds(archivedIds);
+                orderRepository.deleteByIds(archivedIds);
+                deleted.set(true);
+            });
+        } catch (RuntimeException ex) {
+            if (!deleted.get()) {
+                // The delete itself failed, so the transaction was rolled back
+                segment.ifPresent(archiveStore::discard);
+            } else {
+                logger.warn("Commit of archived order delete failed; keeping segment {}", segment.orElse(null));
+            }
+            throw ex;
+        }
+        return batch.size();
+    }
+}
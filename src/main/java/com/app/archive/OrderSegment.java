@@ -0,0 +1,265 @@
+package com.app.archive;
+
+import com.app.model.Item;
+import com.app.model.Money;
+import com.app.model.OrderSummary;
+
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import static com.app.archive.OrderSegmentFormat.*;
+
+/**
+ * Read-only view of an archive segment file, accessed through a memory-mapped buffer.
+ * <p>
+ * Columns are inflated on first use and cached behind soft references, so scans touch only the
+ * columns they need and the decoded data can be reclaimed under memory pressure.
+ * Instances are thread-safe.
+ */
+final class OrderSegment {
+
+    private final Path path;
+    private final MappedByteBuffer mapped;
+    private final int orderCount;
+    private final int itemCount;
+    private final long minOrderId;
+    private final long maxOrderId;
+    private final long[] offsets = new long[COLUMN_COUNT];
+    private final int[] compressedLengths = new int[COLUMN_COUNT];
+    private final int[] rawLengths = new int[COLUMN_COUNT];
+    @SuppressWarnings("unchecked")
+    private final SoftReference<Object>[] decoded = new SoftReference[COLUMN_COUNT];
+
+    private OrderSegment(Path path, MappedByteBuffer mapped) throws IOException {
+        this.path = path;
+        this.mapped = mapped;
+        ByteBuffer header = mapped.duplicate();
+        if (header.getInt() != MAGIC) {
+            throw new IOException("Not an order segment: " + path);
+        }
+        int version = header.getInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported segment version " + version + ": " + path);
+        }
+        this.orderCount = header.getInt();
+        this.itemCount = header.getInt();
+        this.minOrderId = header.getLong();
+        this.maxOrderId = header.getLong();
+        int columnCount = header.getInt();
+        for (int i = 0; i < columnCount; i++) {
+            int columnId = header.getInt();
+            offsets[columnId] = header.getLong();
+            compressedLengths[columnId] = header.getInt();
+            rawLengths[columnId] = header.getInt();
+        }
+    }
+
+    /**
+     * Maps an existing segment file.
+     *
+     * @param path the segment file
+     * @return the opened segment
+     * @throws IOException if the file cannot be mapped or is not a valid segment
+     */
+    static OrderSegment open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // The mapping remains valid after the channel is closed
+            return new OrderSegment(path, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    int getOrderCount() {
+        return orderCount;
+    }
+
+    int getItemCount() {
+        return itemCount;
+    }
+
+    /**
+     * Finds an archived order by ID, using the header ID range to skip the segment cheaply.
+     */
+    Optional<OrderSummary> findOrder(long orderId) {
+        int index = indexOf(orderId);
+        return index < 0 ? Optional.empty() : Optional.of(materialize(index));
+    }
+
+    /**
+     * Returns whether this segment holds the given order, reading only the ID column.
+     */
+    boolean contains(long orderId) {
+        return indexOf(orderId) >= 0;
+    }
+
+    /**
+     * Returns all archived orders belonging to a user.
+     */
+    List<OrderSummary> ordersForUser(long userId) {
+        long[] userIds = longs(USER_ID);
+        List<OrderSummary> result = new ArrayList<>();
+        for (int i = 0; i < orderCount; i++) {
+            if (userIds[i] == userId) {
+                result.add(materialize(i));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Adds each user's total spend in this segment, in minor units, to the accumulator.
+     * Reads only the user and total columns.
+     */
+    void accumulateSpendPerUser(Map<Long, Long> spend) {
+        long[] userIds = longs(USER_ID);
+        long[] totals = longs(TOTAL_AMOUNT);
+        for (int i = 0; i < orderCount; i++) {
+            if (userIds[i] != NO_USER) {
+                spend.merge(userIds[i], totals[i], Long::sum);
+            }
+        }
+    }
+
+    /**
+     * Adds each SKU's total quantity in this segment to the accumulator.
+     * Reads only the SKU and quantity columns.
+     */
+    void accumulateSkuQuantities(Map<String, Long> quantities) {
+        String[] skus = strings(ITEM_SKU, itemCount);
+        int[] qty = ints(ITEM_QUANTITY);
+        for (int i = 0; i < itemCount; i++) {
+            quantities.merge(skus[i], (long) qty[i], Long::sum);
+        }
+    }
+
+    private OrderSummary materialize(int index) {
+        int[] itemStart = ints(ITEM_START);
+        String[] skus = strings(ITEM_SKU, itemCount);
+        String[] names = strings(ITEM_NAME, itemCount);
+        long[] prices = longs(ITEM_PRICE);
+        int[] quantities = ints(ITEM_QUANTITY);
+        long createdAt = longs(CREATED_AT)[index];
+        long userId = longs(USER_ID)[index];
+
+        List<Item> items = new ArrayList<>(itemStart[index + 1] - itemStart[index]);
+        for (int i = itemStart[index]; i < itemStart[index + 1]; i++) {
+            items.add(Item.builder()
+                    .sku(skus[i])
+                    .name(names[i])
+                    .price(Money.ofMinor(prices[i]))
+                    .quantity(quantities[i])
+                    .build());
+        }
+        return OrderSummary.builder()
+                .id(longs(ORDER_ID)[index])
+                .userId(userId == NO_USER ? null : userId)
+                .createdAt(createdAt == NO_TIMESTAMP ? null : Instant.ofEpochMilli(createdAt))
+                .totalAmount(Money.ofMinor(longs(TOTAL_AMOUNT)[index]))
+                .discountApplied(Money.ofMinor(longs(DISCOUNT_APPLIED)[index]))
+                .status(strings(STATUS, orderCount)[index])
+                .items(items)
+                .archived(true)
+                .build();
+    }
+
+    private int indexOf(long orderId) {
+        if (orderId < minOrderId || orderId > maxOrderId) {
+            return -1;
+        }
+        return Arrays.binarySearch(longs(ORDER_ID), orderId);
+    }
+
+    private long[] longs(int column) {
+        return (long[]) decode(column, raw -> {
+            long[] values = new long[raw.remaining() / Long.BYTES];
+            raw.asLongBuffer().get(values);
+            return values;
+        });
+    }
+
+    private int[] ints(int column) {
+        return (int[]) decode(column, raw -> {
+            int[] values = new int[raw.remaining() / Integer.BYTES];
+            raw.asIntBuffer().get(values);
+            return values;
+        });
+    }
+
+    private String[] strings(int column, int count) {
+        return (String[]) decode(column, raw -> {
+            String[] values = new String[count];
+            for (int i = 0; i < count; i++) {
+                int length = raw.getInt();
+                if (length >= 0) {
+                    values[i] = new String(raw.array(), raw.position(), length, StandardCharsets.UTF_8);
+                    raw.position(raw.position() + length);
+                }
+            }
+            return values;
+        });
+    }
+
+    private Object decode(int column, Decoder decoder) {
+        SoftReference<Object> ref = decoded[column];
+        Object value = ref == null ? null : ref.get();
+        if (value != null) {
+            return value;
+        }
+        synchronized (decoded) {
+            ref = decoded[column];
+            value = ref == null ? null : ref.get();
+            if (value == null) {
+                value = decoder.decode(ByteBuffer.wrap(inflate(column)));
+                decoded[column] = new SoftReference<>(value);
+            }
+            return value;
+        }
+    }
+
+    private byte[] inflate(int column) {
+        ByteBuffer compressed = mapped.slice((int) offsets[column], compressedLengths[column]);
+        byte[] raw = new byte[rawLengths[column]];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            int read = 0;
+            while (read < raw.length && !inflater.finished()) {
+                int inflated = inflater.inflate(raw, read, raw.length - read);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("Truncated column " + column + " in segment " + path);
+                }
+                read += inflated;
+            }
+            if (read != raw.length) {
+                throw new IllegalStateException("Short column " + column + " in segment " + path);
+            }
+            return raw;
+        } catch (DataFormatException ex) {
+            throw new IllegalStateException("Corrupt column " + column + " in segment " + path, ex);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Decoder {
+        Object decode(ByteBuffer raw);
+    }
+}
@@ -0,0 +1,50 @@
+package com.app.archive;
+
+/**
+ * On-disk layout of an order archive segment.
+ * <p>
+ * A segment is an immutable file holding a batch of orders in columnar form:
+ * <pre>
+ *     header    : magic (int), version (int), orderCount (int), itemCount (int),
+ *                 minOrderId (long), maxOrderId (long), columnCount (int)
+ *     directory : per column - columnId (int), offset (long), compressedLength (int), rawLength (int)
+ *     blobs     : deflate-compressed column data
+ * </pre>
+ * Order columns hold one value per order (orders sorted by ID); item columns hold one value per
+ * item, with {@link #ITEM_START} giving each order's first item index (orderCount + 1 entries).
+ * Amounts are stored as {@code long} minor units. Strings are stored as a length-prefixed UTF-8 sequence, with -1 marking null.
+ * A null creation time (orders placed before the column existed) is stored as {@link #NO_TIMESTAMP},
+ * and an order without a user as {@link #NO_USER}.
+ */
+final class OrderSegmentFormat {
+
+    static final int MAGIC = 0x544F5347; // "TOSG"
+    static final int VERSION = 2;
+    static final String FILE_SUFFIX = ".seg";
+
+    static final int HEADER_BYTES = 4 + 4 + 4 + 4 + 8 + 8 + 4;
+    static final int DIRECTORY_ENTRY_BYTES = 4 + 8 + 4 + 4;
+
+    // Order columns
+    static final int ORDER_ID = 0;
+    static final int USER_ID = 1;
+    static final int CREATED_AT = 2;
+    static final int TOTAL_AMOUNT = 3;
+    static final int DISCOUNT_APPLIED = 4;
+    static final int STATUS = 5;
+    static final int ITEM_START = 6;
+
+    // Item columns
+    static final int ITEM_SKU = 7;
+    static final int ITEM_NAME = 8;
+    static final int ITEM_PRICE = 9;
+    static final int ITEM_QUANTITY = 10;
+
+    static final int COLUMN_COUNT = 11;
+
+    static final long NO_TIMESTAMP = Long.MIN_VALUE;
+    static final long NO_USER = Long.MIN_VALUE;
+
+    private OrderSegmentFormat() {
+    }
+}
@@ -0,0 +1,140 @@
+package com.app.archive;
+
+import com.app.model.Item;
+import com.app.model.Money;
+import com.app.model.OrderSummary;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.zip.Deflater;
+
+import static com.app.archive.OrderSegmentFormat.*;
+
+/**
+ * Writes a batch of orders to an immutable, compressed columnar segment file.
+ * The file is written to a temporary name, forced to disk and atomically renamed into place.
+ */
+final class OrderSegmentWriter {
+
+    private OrderSegmentWriter() {
+    }
+
+    /**
+     * Writes the given orders, which must be sorted by ascending ID, to a new segment file.
+     *
+     * @param target the final path of the segment
+     * @param orders the orders to archive
+     * @throws IOException if the segment cannot be written
+     */
+    static void write(Path target, List<OrderSummary> orders) throws IOException {
+        if (orders.isEmpty()) {
+            throw new IllegalArgumentException("Cannot write an empty segment");
+        }
+        int itemCount = orders.stream().mapToInt(o -> o.getItems().size()).sum();
+
+        Column[] columns = new Column[COLUMN_COUNT];
+        for (int i = 0; i < COLUMN_COUNT; i++) {
+            columns[i] = new Column();
+        }
+
+        int itemIndex = 0;
+        for (OrderSummary order : orders) {
+            columns[ORDER_ID].out.writeLong(order.getId());
+            columns[USER_ID].out.writeLong(order.getUserId() == null ? NO_USER : order.getUserId());
+            columns[CREATED_AT].out.writeLong(order.getCreatedAt() == null ? NO_TIMESTAMP : order.getCreatedAt().toEpochMilli());
+            columns[TOTAL_AMOUNT].out.writeLong(Money.orZero(order.getTotalAmount()).getMinorUnits());
+            columns[DISCOUNT_APPLIED].out.writeLong(Money.orZero(order.getDiscountApplied()).getMinorUnits());
+            writeString(columns[STATUS].out, order.getStatus());
+            columns[ITEM_START].out.writeInt(itemIndex);
+            for (Item item : order.getItems()) {
+                writeString(columns[ITEM_SKU].out, item.getSku());
+                writeString(columns[ITEM_NAME].out, item.getName());
+                columns[ITEM_PRICE].out.writeLong(Money.orZero(item.getPrice()).getMinorUnits());
+                columns[ITEM_QUANTITY].out.writeInt(item.getQuantity());
+                itemIndex++;
+            }
+        }
+        columns[ITEM_START].out.writeInt(itemIndex);
+
+        byte[][] compressed = new byte[COLUMN_COUNT][];
+        int[] rawLengths = new int[COLUMN_COUNT];
+        for (int i = 0; i < COLUMN_COUNT; i++) {
+            byte[] raw = columns[i].bytes.toByteArray();
+            rawLengths[i] = raw.length;
+            compressed[i] = deflate(raw);
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES + COLUMN_COUNT * DIRECTORY_ENTRY_BYTES);
+        header.putInt(MAGIC)
+                .putInt(VERSION)
+                .putInt(orders.size())
+                .putInt(itemCount)
+                .putLong(orders.get(0).getId())
+                .putLong(orders.get(orders.size() - 1).getId())
+                .putInt(COLUMN_COUNT);
+        long offset = header.capacity();
+        for (int i = 0; i < COLUMN_COUNT; i++) {
+            header.putInt(i).putLong(offset).putInt(compressed[i].length).putInt(rawLengths[i]);
+            offset += compressed[i].length;
+        }
+        header.flip();
+
+        Path tmp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tmp,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            writeFully(channel, header);
+            for (byte[] blob : compressed) {
+                writeFully(channel, ByteBuffer.wrap(blob));
+            }
+            channel.force(true);
+        }
+        Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 4));
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                int n = deflater.deflate(buffer);
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static final class Column {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(bytes);
+    }
+}
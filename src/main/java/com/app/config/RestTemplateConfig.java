@@ -1,18 +1,25 @@
 package com.app.config;
 
+import com.app.talonone.replay.RecordingInterceptor;
+import com.app.talonone.replay.TrafficRecordFile;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.ClientHttpRequestExecution;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.http.client.ClientHttpRequest;
 import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 import java.io.IOException;
-import java.util.Collections;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Configuration class for RestTemplate used to communicate with Talon.One's Integration API.
@@ -23,6 +30,7 @@ import java.util.Collections;
  *     <li>API key is securely injected from application properties</li>
  *     <li>All requests to Talon.One are logged concisely (method and URI, no sensitive data)</li>
  *     <li>Authorization header is attached to every outgoing request</li>
+ *     <li>Optionally, sanitized request/response pairs are recorded for offline replay</li>
  * </ul>
  *
  * <p>
@@ -30,6 +38,12 @@ import java.util.Collections;
  * <ul>
  *     <li>talonone.api-key=YOUR_TALONONE_API_KEY</li>
  * </ul>
+ * Optional properties:
+ * <ul>
+ *     <li>talonone.recording.enabled=true to capture traffic (default false)</li>
+ *     <li>talonone.recording.file=path of the append-only capture file</li>
+ *     <li>talonone.connect-timeout-ms / talonone.read-timeout-ms (defaults 2000 / 5000)</li>
+ * </ul>
  * </p>
  *
  * @author Your Name
@@ -45,19 +59,49 @@ public class RestTemplateConfig {
     @Value("${talonone.api-key}")
     private String talonOneApiKey;
 
+    @Value("${talonone.connect-timeout-ms:2000}")
+    private int connectTimeoutMillis;
+
+    @Value("${talonone.read-timeout-ms:5000}")
+    private int readTimeoutMillis;
+
     /**
      * Defines a singleton, thread-safe RestTemplate bean configured for TalonOneClient.
-     * Adds an interceptor for concise logging and API key authentication.
+     * Adds an interceptor for concise logging and API key authentication, and the recording
+     * interceptor when traffic recording is enabled. Connects and reads time out, so a stalled
+     * Talon.One call cannot hold an evaluation lane thread indefinitely.
      *
+     * @param trafficRecordFile the capture file, present only when recording is enabled
      * @return configured RestTemplate instance
      */
     @Bean
-    public RestTemplate talonOneRestTemplate() {
-        RestTemplate restTemplate = new RestTemplate();
-        restTemplate.setInterceptors(Collections.singletonList(new TalonOneApiInterceptor(talonOneApiKey)));
+    public RestTemplate talonOneRestTemplate(ObjectProvider<TrafficRecordFile> trafficRecordFile) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(connectTimeoutMillis);
+        requestFactory.setReadTimeout(readTimeoutMillis);
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        List<ClientHttpRequestInterceptor> interceptors = new ArrayList<>();
+        interceptors.add(new TalonOneApiInterceptor(talonOneApiKey));
+        trafficRecordFile.ifAvailable(file -> interceptors.add(new RecordingInterceptor(file)));
+        restTemplate.setInterceptors(interceptors);
         return restTemplate;
     }
 
+    /**
+     * Append-only capture file for Talon.One traffic, created only when recording is enabled.
+     *
+     * @param file path of the capture file
+     * @return the opened capture file
+     * @throws IOException if the file cannot be opened
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "talonone.recording.enabled", havingValue = "true")
+    public TrafficRecordFile trafficRecordFile(
+            @Value("${talonone.recording.file:talonone-traffic.rec}") String file) throws IOException {
+        logger.info("Recording Talon.One traffic to {}", file);
+        return TrafficRecordFile.openForAppend(Paths.get(file));
+    }
+
     /**
      * Interceptor for attaching the Talon.One API key and logging request details.
      * Logs HTTP method and URI only (no sensitive data).
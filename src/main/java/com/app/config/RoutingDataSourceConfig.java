@@ -0,0 +1,89 @@
+package com.app.config;
+
+import com.app.datasource.ReadWriteRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Configuration for read/write splitting between a primary and a replica database.
+ * <p>
+ * This configuration ensures:
+ * <ul>
+ *     <li>Separate Hikari pools for the primary and the replica</li>
+ *     <li>Read-only transactions (e.g. GET /users/{id}, order history) are served by the replica</li>
+ *     <li>All other transactions, and reads pinned by the read-your-writes guard, use the primary</li>
+ * </ul>
+ *
+ * <p>
+ * Enabled with app.datasource.routing.enabled=true, in which case these properties replace spring.datasource.*:
+ * <ul>
+ *     <li>app.datasource.primary.url / username / password, app.datasource.primary.hikari.*</li>
+ *     <li>app.datasource.replica.url / username / password, app.datasource.replica.hikari.*</li>
+ * </ul>
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.routing.enabled", havingValue = "true")
+public class RoutingDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("app.datasource.primary")
+    public DataSourceProperties primaryDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.replica")
+    public DataSourceProperties replicaDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.primary.hikari")
+    public HikariDataSource primaryPool(@Qualifier("primaryDataSourceProperties") DataSourceProperties properties) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        pool.setPoolName("primary");
+        return pool;
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.replica.hikari")
+    public HikariDataSource replicaPool(@Qualifier("replicaDataSourceProperties") DataSourceProperties properties) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        pool.setPoolName("replica");
+        pool.setReadOnly(true);
+        return pool;
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource routingDataSource(
+            @Qualifier("primaryPool") HikariDataSource primaryPool,
+            @Qualifier("replicaPool") HikariDataSource replicaPool) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource();
+        routing.setTargetDataSources(Map.of(
+                ReadWriteRoutingDataSource.PRIMARY, primaryPool,
+                ReadWriteRoutingDataSource.REPLICA, replicaPool));
+        routing.setDefaultTargetDataSource(primaryPool);
+        return routing;
+    }
+
+    /**
+     * The application DataSource used by JPA. The lazy proxy defers obtaining a connection until the
+     * first statement, by which time the transaction's read-only flag is set.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
@@ -0,0 +1,70 @@
+package com.app.config;
+
+import com.app.tracing.FileSpanExporter;
+import com.app.tracing.ServerTimingFilter;
+import com.app.tracing.SpanExporter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+/**
+ * Configuration for per-request latency breakdowns.
+ * <p>
+ * This configuration ensures:
+ * <ul>
+ *     <li>/orders and /rewards/evaluate responses carry a Server-Timing header with per-stage durations</li>
+ *     <li>A sampled fraction of those requests is exported as trace spans to a pluggable {@link SpanExporter}</li>
+ * </ul>
+ *
+ * <p>
+ * Optional properties in application.properties:
+ * <ul>
+ *     <li>tracing.sample-rate=fraction of requests exported as spans (default 0.01)</li>
+ *     <li>tracing.exporter=file to write spans as JSON lines (default none)</li>
+ *     <li>tracing.file=path of the span file (default traces.jsonl)</li>
+ * </ul>
+ * </p>
+ */
+@Configuration
+public class TracingConfig {
+
+    @Value("${tracing.sample-rate:0.01}")
+    private double sampleRate;
+
+    /**
+     * Registers the Server-Timing filter for the order and rewards evaluation endpoints.
+     *
+     * @param spanExporter the configured span exporter, if any
+     * @return the filter registration
+     */
+    @Bean
+    public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter(ObjectProvider<SpanExporter> spanExporter) {
+        FilterRegistrationBean<ServerTimingFilter> registration =
+                new FilterRegistrationBean<>(new ServerTimingFilter(spanExporter.getIfAvailable(), sampleRate));
+        registration.addUrlPatterns("/orders", "/orders/*", "/rewards/evaluate");
+        return registration;
+    }
+
+    /**
+     * Local file span exporter, for testing and offline analysis.
+     *
+     * @param file path of the span file
+     * @param objectMapper the application's ObjectMapper
+     * @return the exporter
+     * @throws IOException if the file cannot be opened
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "tracing.exporter", havingValue = "file")
+    public FileSpanExporter fileSpanExporter(
+            @Value("${tracing.file:traces.jsonl}") String file,
+            ObjectMapper objectMapper) throws IOException {
+        return new FileSpanExporter(Paths.get(file), objectMapper);
+    }
+}
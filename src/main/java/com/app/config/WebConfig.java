@@ -0,0 +1,47 @@
+package com.app.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Web MVC configuration for compact binary content negotiation.
+ * <p>
+ * Spring MVC already registers CBOR ({@code application/cbor}) and Smile
+ * ({@code application/x-jackson-smile}) converters when their dataformats are on the classpath,
+ * but with plain mappers that ignore {@code spring.jackson.*}. This replaces those two converters
+ * with ones built from Boot's configured {@link Jackson2ObjectMapperBuilder}, so binary responses
+ * serialize exactly like JSON ones. Clients such as the mobile BFF opt in via {@code Content-Type}
+ * and {@code Accept} headers; JSON remains the default because it is registered first.
+ *
+ * <p>
+ * Requires jackson-dataformat-cbor and jackson-dataformat-smile on the classpath.
+ * </p>
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder;
+
+    public WebConfig(ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder) {
+        this.objectMapperBuilder = objectMapperBuilder;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+                || converter instanceof MappingJackson2SmileHttpMessageConverter);
+        converters.add(new MappingJackson2CborHttpMessageConverter(
+                objectMapperBuilder.getObject().factory(new CBORFactory()).build()));
+        converters.add(new MappingJackson2SmileHttpMessageConverter(
+                objectMapperBuilder.getObject().factory(new SmileFactory()).build()));
+    }
+}
@@ -0,0 +1,45 @@
+package com.app.controller;
+
+import com.app.model.CartRequest;
+import com.app.model.RewardsResponse;
+import com.app.service.RewardsService;
+import jakarta.validation.Valid;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous variant of {@link RewardsController}, active under the {@code async} profile.
+ * <p>
+ * Returns a {@link CompletableFuture} so the servlet thread is released immediately. The
+ * Talon.One calls are made with the non-blocking client, so no thread waits on the round trip;
+ * a saturated preview lane is answered with 503 by {@link RewardsExceptionHandler}.
+ */
+@RestController
+@RequestMapping("/rewards")
+@Profile("async")
+public class AsyncRewardsController {
+
+    private final RewardsService rewardsService;
+
+    public AsyncRewardsController(RewardsService rewardsService) {
+        this.rewardsService = rewardsService;
+    }
+
+    /**
+     * Evaluates rewards for the given cart without blocking the servlet thread.
+     *
+     * @param cartRequest the cart request payload (validated)
+     * @return future completing with the RewardsResponse and HTTP status
+     */
+    @PostMapping("/evaluate")
+    public CompletableFuture<ResponseEntity<RewardsResponse>> evaluateRewards(
+            @Valid @RequestBody CartRequest cartRequest) {
+        return rewardsService.evaluateCartAsync(cartRequest).thenApply(ResponseEntity::ok);
+    }
+}
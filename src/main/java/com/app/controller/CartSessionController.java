@@ -0,0 +1,145 @@
+package com.app.controller;
+
+import com.app.model.CartDeltaRequest;
+import com.app.model.CartRequest;
+import com.app.model.CartSessionResponse;
+import com.app.service.CartSessionService;
+import com.app.service.EvaluationLane;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindException;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * REST controller for server-side cart sessions.
+ * Exposes endpoints under /rewards/sessions.
+ */
+@RestController
+@RequestMapping("/rewards/sessions")
+@RequiredArgsConstructor
+public class CartSessionController {
+
+    private static final Logger logger = LoggerFactory.getLogger(CartSessionController.class);
+
+    private final CartSessionService cartSessionService;
+
+    /**
+     * POST /rewards/sessions : Create a cart session from an initial cart.
+     *
+     * @param cartRequest the initial cart (validated)
+     * @return 201 Created with the session state and its location
+     */
+    @PostMapping
+    public ResponseEntity<CartSessionResponse> createSession(
+            @Valid @RequestBody CartRequest cartRequest) {
+        CartSessionResponse session = cartSessionService.createSession(cartRequest);
+        return ResponseEntity
+                .created(URI.create("/rewards/sessions/" + session.getSessionId()))
+                .body(session);
+    }
+
+    /**
+     * PATCH /rewards/sessions/{id} : Apply item deltas to a cart session.
+     *
+     * @param id the session ID
+     * @param deltaRequest the line changes (validated)
+     * @return 200 OK with the updated session, or 404 Not Found if the session does not exist or expired
+     */
+    @PatchMapping("/{id}")
+    public ResponseEntity<CartSessionResponse> applyDeltas(
+            @PathVariable String id,
+            @Valid @RequestBody CartDeltaRequest deltaRequest) {
+        return cartSessionService.applyDeltas(id, deltaRequest)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).build());
+    }
+
+    /**
+     * GET /rewards/sessions/{id} : Fetch the current evaluation of a cart session.
+     *
+     * @param id the session ID
+     * @return 200 OK with the evaluated session, or 404 Not Found if the session does not exist or expired
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<CartSessionResponse> getSession(@PathVariable String id) {
+        return cartSessionService.evaluate(id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).build());
+    }
+
+    /**
+     * Handles validation errors for @Valid annotated request bodies.
+     *
+     * @param ex the exception thrown on validation failure
+     * @return ResponseEntity with error details and 400 Bad Request
+     */
+    @ExceptionHandler({MethodArgumentNotValidException.class, BindException.class})
+    public ResponseEntity<Map<String, String>> handleValidationExceptions(Exception ex) {
+        Map<String, String> errors = new HashMap<>();
+        if (ex instanceof MethodArgumentNotValidException manve) {
+            manve.getBindingResult().getFieldErrors()
+                    .forEach(error -> errors.put(error.getField(), error.getDefaultMessage()));
+        } else if (ex instanceof BindException be) {
+            be.getBindingResult().getFieldErrors()
+                    .forEach(error -> errors.put(error.getField(), error.getDefaultMessage()));
+        }
+        logger.warn("Validation failed: {}", errors);
+        return ResponseEntity.badRequest().body(errors);
+    }
+
+    /**
+     * Handles evaluations shed or rejected by a saturated evaluation lane.
+     *
+     * @param ex the exception
+     * @return ResponseEntity with error message and 503 Service Unavailable
+     */
+    @ExceptionHandler(EvaluationLane.LaneRejectedException.class)
+    public ResponseEntity<Map<String, String>> handleLaneRejected(EvaluationLane.LaneRejectedException ex) {
+        logger.warn("Rewards evaluation rejected: {}", ex.getMessage());
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "Rewards evaluation is temporarily unavailable. Please retry shortly.");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(error);
+    }
+
+    /**
+     * Handles session creation refused because the session cap has been reached.
+     *
+     * @param ex the exception
+     * @return ResponseEntity with error message and 503 Service Unavailable
+     */
+    @ExceptionHandler(CartSessionService.SessionLimitExceededException.class)
+    public ResponseEntity<Map<String, String>> handleSessionLimit(CartSessionService.SessionLimitExceededException ex) {
+        logger.warn("Cart session rejected: {}", ex.getMessage());
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "Too many active cart sessions. Please retry shortly.");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "60")
+                .body(error);
+    }
+
+    /**
+     * Handles business rule violations such as adding a SKU that is not in the catalog.
+     *
+     * @param ex the exception
+     * @return ResponseEntity with error message and 400 Bad Request
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleBadRequest(IllegalArgumentException ex) {
+        logger.warn("Bad request on cart session: {}", ex.getMessage());
+        Map<String, String> error = new HashMap<>();
+        error.put("error", ex.getMessage());
+        return ResponseEntity.badRequest().body(error);
+    }
+}
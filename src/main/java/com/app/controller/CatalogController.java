@@ -0,0 +1,30 @@
+package com.app.controller;
+
+import com.app.service.CatalogService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for catalog administration.
+ */
+@RestController
+@RequestMapping("/catalog")
+@RequiredArgsConstructor
+public class CatalogController {
+
+    private final CatalogService catalogService;
+
+    /**
+     * POST /catalog/reload : Rebuild the in-memory SKU index from the products table.
+     *
+     * @return 204 No Content once the new index is live
+     */
+    @PostMapping("/reload")
+    public ResponseEntity<Void> reload() {
+        catalogService.reload();
+        return ResponseEntity.noContent().build();
+    }
+}
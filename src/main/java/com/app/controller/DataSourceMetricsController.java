@@ -0,0 +1,63 @@
+package com.app.controller;
+
+import com.app.datasource.ReadWriteRoutingDataSource;
+import com.app.model.PoolStats;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST controller exposing per-pool metrics of the read/write routing data source.
+ * Only present when app.datasource.routing.enabled=true.
+ */
+@RestController
+@RequestMapping("/metrics/datasource")
+@ConditionalOnProperty(name = "app.datasource.routing.enabled", havingValue = "true")
+public class DataSourceMetricsController {
+
+    private final ReadWriteRoutingDataSource routingDataSource;
+    private final HikariDataSource primaryPool;
+    private final HikariDataSource replicaPool;
+
+    public DataSourceMetricsController(
+            ReadWriteRoutingDataSource routingDataSource,
+            @Qualifier("primaryPool") HikariDataSource primaryPool,
+            @Qualifier("replicaPool") HikariDataSource replicaPool) {
+        this.routingDataSource = routingDataSource;
+        this.primaryPool = primaryPool;
+        this.replicaPool = replicaPool;
+    }
+
+    /**
+     * GET /metrics/datasource/pools : Routing counts and connection usage for the primary and replica pools.
+     *
+     * @return 200 OK with stats per pool
+     */
+    @GetMapping("/pools")
+    public ResponseEntity<List<PoolStats>> getPoolStats() {
+        return ResponseEntity.ok(List.of(
+                toStats(ReadWriteRoutingDataSource.PRIMARY, primaryPool),
+                toStats(ReadWriteRoutingDataSource.REPLICA, replicaPool)));
+    }
+
+    private PoolStats toStats(String name, HikariDataSource pool) {
+        PoolStats.PoolStatsBuilder stats = PoolStats.builder()
+                .pool(name)
+                .routedConnections(routingDataSource.getRouteCount(name));
+        HikariPoolMXBean mxBean = pool.getHikariPoolMXBean();
+        if (mxBean != null) {
+            stats.activeConnections(mxBean.getActiveConnections())
+                    .idleConnections(mxBean.getIdleConnections())
+                    .totalConnections(mxBean.getTotalConnections())
+                    .threadsAwaitingConnection(mxBean.getThreadsAwaitingConnection());
+        }
+        return stats.build();
+    }
+}
@@ -2,9 +2,12 @@ package com.app.controller;
 
 import com.app.model.OrderRequest;
 import com.app.model.OrderResponse;
+import com.app.model.Money;
 import com.app.model.Order;
+import com.app.model.OrderSummary;
+import com.app.service.EvaluationLane;
+import com.app.service.OrderHistoryService;
 import com.app.service.OrderService;
-import com.app.service.RewardsService;
 import com.app.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -16,16 +19,21 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.net.URI;
+import java.util.List;
+import java.util.Map;
 
 /**
  * REST controller for handling order placement.
- * Integrates with RewardsService and UserService as part of the order workflow.
+ * Integrates with OrderService and UserService as part of the order workflow.
  */
 @RestController
 @RequestMapping("/orders")
@@ -35,8 +43,8 @@ public class OrderController {
     private static final Logger logger = LoggerFactory.getLogger(OrderController.class);
 
     private final OrderService orderService;
-    private final RewardsService rewardsService;
     private final UserService userService;
+    private final OrderHistoryService orderHistoryService;
 
     /**
      * Places a new order.
@@ -48,10 +56,7 @@ public class OrderController {
     public ResponseEntity<OrderResponse> placeOrder(
             @Valid @RequestBody OrderRequest orderRequest) {
         try {
-            // Evaluate rewards for the order (e.g., discounts, loyalty points)
-            rewardsService.evaluateRewards(orderRequest);
-
-            // Save the order and get the persisted order entity
+            // Save the order (rewards are evaluated as part of placement) and get the persisted order entity
             Order savedOrder = orderService.saveOrder(orderRequest);
 
             // Update user information based on the order (e.g., loyalty status)
@@ -68,6 +73,13 @@ public class OrderController {
                     .created(location)
                     .body(orderResponse);
 
+        } catch (EvaluationLane.LaneRejectedException ex) {
+            // Checkout lane is saturated before anything was saved; ask the client to retry
+            logger.warn("Order placement rejected by checkout lane: {}", ex.getMessage());
+            return ResponseEntity
+                    .status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(OrderResponse.error("Checkout is temporarily busy. Please retry shortly."));
         } catch (IllegalArgumentException ex) {
             // Handle known bad request scenarios (e.g., invalid business logic)
             logger.warn("Bad request during order placement: {}", ex.getMessage());
@@ -83,6 +95,46 @@ public class OrderController {
         }
     }
 
+    /**
+     * GET /orders/{id} : Fetch an order, whether it is still in the database or archived.
+     *
+     * @param id the ID of the order
+     * @return 200 OK with the order, or 404 Not Found if it does not exist
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<OrderSummary> getOrder(@PathVariable Long id) {
+        return orderHistoryService.findOrder(id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).build());
+    }
+
+    /**
+     * GET /orders?userId={userId} : Fetch a user's order history across both storage tiers.
+     *
+     * @param userId the ID of the user
+     * @return 200 OK with the user's orders, newest first
+     */
+    @GetMapping
+    public ResponseEntity<List<OrderSummary>> getOrderHistory(@RequestParam Long userId) {
+        return ResponseEntity.ok(orderHistoryService.getHistory(userId));
+    }
+
+    /**
+     * GET /orders/archive/spend-per-user : Total spend per user across archived orders.
+     */
+    @GetMapping("/archive/spend-per-user")
+    public ResponseEntity<Map<Long, Money>> getArchivedSpendPerUser() {
+        return ResponseEntity.ok(orderHistoryService.getArchivedSpendPerUser());
+    }
+
+    /**
+     * GET /orders/archive/sku-totals : Total quantity sold per SKU across archived orders.
+     */
+    @GetMapping("/archive/sku-totals")
+    public ResponseEntity<Map<String, Long>> getArchivedSkuTotals() {
+        return ResponseEntity.ok(orderHistoryService.getArchivedSkuQuantities());
+    }
+
     /**
      * Handles validation errors and returns a 400 Bad Request with details.
      */
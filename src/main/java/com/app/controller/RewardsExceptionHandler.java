@@ -0,0 +1,89 @@
+package com.app.controller;
+
+import com.app.service.EvaluationLane;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindException;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Error handling shared by {@link RewardsController} and {@link AsyncRewardsController}.
+ * For the async controller this also covers failures that complete its returned future.
+ */
+@RestControllerAdvice(assignableTypes = {RewardsController.class, AsyncRewardsController.class})
+public class RewardsExceptionHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(RewardsExceptionHandler.class);
+
+    /**
+     * Handles validation errors for @Valid annotated request bodies.
+     *
+     * @param ex the exception thrown on validation failure
+     * @return ResponseEntity with error details and 400 Bad Request
+     */
+    @ExceptionHandler({MethodArgumentNotValidException.class, BindException.class})
+    public ResponseEntity<Map<String, String>> handleValidationExceptions(Exception ex) {
+        Map<String, String> errors = new HashMap<>();
+        if (ex instanceof MethodArgumentNotValidException manve) {
+            manve.getBindingResult().getFieldErrors()
+                    .forEach(error -> errors.put(error.getField(), error.getDefaultMessage()));
+        } else if (ex instanceof BindException be) {
+            be.getBindingResult().getFieldErrors()
+                    .forEach(error -> errors.put(error.getField(), error.getDefaultMessage()));
+        }
+        logger.warn("Validation failed: {}", errors);
+        return ResponseEntity.badRequest().body(errors);
+    }
+
+    /**
+     * Handles business rule violations such as a cart containing a SKU that is not in the catalog.
+     *
+     * @param ex the exception
+     * @return ResponseEntity with error message and 400 Bad Request
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleBadRequest(IllegalArgumentException ex) {
+        logger.warn("Bad request during rewards evaluation: {}", ex.getMessage());
+        Map<String, String> error = new HashMap<>();
+        error.put("error", ex.getMessage());
+        return ResponseEntity.badRequest().body(error);
+    }
+
+    /**
+     * Handles evaluations shed or rejected by a saturated evaluation lane.
+     *
+     * @param ex the exception
+     * @return ResponseEntity with error message and 503 Service Unavailable
+     */
+    @ExceptionHandler(EvaluationLane.LaneRejectedException.class)
+    public ResponseEntity<Map<String, String>> handleLaneRejected(EvaluationLane.LaneRejectedException ex) {
+        logger.warn("Rewards evaluation rejected: {}", ex.getMessage());
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "Rewards evaluation is temporarily unavailable. Please retry shortly.");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(error);
+    }
+
+    /**
+     * Handles all other uncaught exceptions gracefully.
+     *
+     * @param ex the exception
+     * @return ResponseEntity with error message and 500 Internal Server Error
+     */
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<Map<String, String>> handleAllExceptions(Exception ex) {
+        logger.error("Unexpected error occurred", ex);
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "An unexpected error occurred. Please try again later.");
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
+    }
+}
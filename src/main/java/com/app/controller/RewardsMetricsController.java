@@ -0,0 +1,46 @@
+package com.app.controller;
+
+import com.app.model.CoalescingStats;
+import com.app.model.LaneStats;
+import com.app.service.EvaluationCoalescer;
+import com.app.service.EvaluationLanes;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST controller exposing operational metrics of the rewards evaluation path.
+ * Exposes endpoints under /rewards/metrics.
+ */
+@RestController
+@RequestMapping("/rewards/metrics")
+@RequiredArgsConstructor
+public class RewardsMetricsController {
+
+    private final EvaluationLanes evaluationLanes;
+    private final EvaluationCoalescer evaluationCoalescer;
+
+    /**
+     * GET /rewards/metrics/lanes : Queue depth, wait time and rejections per evaluation lane.
+     *
+     * @return 200 OK with stats for the checkout and preview lanes
+     */
+    @GetMapping("/lanes")
+    public ResponseEntity<List<LaneStats>> getLaneStats() {
+        return ResponseEntity.ok(evaluationLanes.getStats());
+    }
+
+    /**
+     * GET /rewards/metrics/coalescing : How many evaluations shared an in-flight Talon.One call.
+     *
+     * @return 200 OK with leader/follower counts and the coalescing ratio
+     */
+    @GetMapping("/coalescing")
+    public ResponseEntity<CoalescingStats> getCoalescingStats() {
+        return ResponseEntity.ok(evaluationCoalescer.getStats());
+    }
+}
@@ -1,6 +1,8 @@
 package com.app.controller;
 
+import com.app.model.LoyaltyBalanceResponse;
 import com.app.model.User;
+import com.app.service.LoyaltyLedgerService;
 import com.app.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -17,6 +19,7 @@ import org.springframework.web.bind.annotation.*;
 public class UserController {
 
     private final UserService userService;
+    private final LoyaltyLedgerService loyaltyLedgerService;
 
     /**
      * GET /users/{id} : Fetch user details by ID.
@@ -26,11 +29,23 @@ public class UserController {
      */
     @GetMapping("/{id}")
     public ResponseEntity<User> getUserById(@PathVariable Long id) {
-        return userService.getUser(id)
+        return userService.findUserForRead(id)
                 .map(user -> ResponseEntity.ok(user))
                 .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).build());
     }
 
+    /**
+     * GET /users/{id}/loyalty : Fetch the user's loyalty point balance from the local ledger index.
+     * Does not call Talon.One; balances are periodically reconciled in the background.
+     *
+     * @param id the ID of the user
+     * @return 200 OK with the balance (zero if the user has no recorded movements)
+     */
+    @GetMapping("/{id}/loyalty")
+    public ResponseEntity<LoyaltyBalanceResponse> getLoyaltyBalance(@PathVariable Long id) {
+        return ResponseEntity.ok(new LoyaltyBalanceResponse(id, loyaltyLedgerService.getBalance(id)));
+    }
+
     /**
      * PUT /users/{id} : Update user's totalOrders and totalSpent.
      *
@@ -0,0 +1,46 @@
+package com.app.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Thread-bound routing hints for {@link ReadWriteRoutingDataSource}.
+ * <p>
+ * Read-only transactions are sent to the replica by default; code that must see its own recent
+ * writes runs inside {@link #onPrimary(Supplier)} to pin the connection to the primary.
+ * The hint must be set before the transaction's first statement, since the connection is
+ * obtained lazily on first use.
+ */
+public final class DataSourceRouting {
+
+    private static final ThreadLocal<Boolean> FORCE_PRIMARY = new ThreadLocal<>();
+
+    private DataSourceRouting() {
+    }
+
+    /**
+     * Runs work with reads routed to the primary.
+     *
+     * @param work the work to run
+     * @return the work's result
+     */
+    public static <T> T onPrimary(Supplier<T> work) {
+        Boolean previous = FORCE_PRIMARY.get();
+        FORCE_PRIMARY.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                FORCE_PRIMARY.remove();
+            } else {
+                FORCE_PRIMARY.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Returns whether the current thread has pinned reads to the primary.
+     */
+    public static boolean isPrimaryForced() {
+        return Boolean.TRUE.equals(FORCE_PRIMARY.get());
+    }
+}
@@ -0,0 +1,40 @@
+package com.app.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Routing data source that sends read-only transactions to the replica pool and everything
+ * else to the primary pool. Must be wrapped in a LazyConnectionDataSourceProxy so the
+ * transaction's read-only flag is known when the connection is obtained.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    private final LongAdder primaryRoutes = new LongAdder();
+    private final LongAdder replicaRoutes = new LongAdder();
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !DataSourceRouting.isPrimaryForced()) {
+            replicaRoutes.increment();
+            return REPLICA;
+        }
+        primaryRoutes.increment();
+        return PRIMARY;
+    }
+
+    /**
+     * Returns how many connections have been routed to the given pool.
+     *
+     * @param pool {@link #PRIMARY} or {@link #REPLICA}
+     */
+    public long getRouteCount(String pool) {
+        return REPLICA.equals(pool) ? replicaRoutes.sum() : primaryRoutes.sum();
+    }
+}
@@ -0,0 +1,67 @@
+package com.app.datasource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Staleness guard giving users read-your-writes consistency on top of replica reads.
+ * <p>
+ * After a user's data is written, that user's reads go to the primary for a configurable
+ * window long enough to cover replication lag. Other users' reads keep going to the replica.
+ *
+ * <p>
+ * Optional properties in application.properties:
+ * <ul>
+ *     <li>app.datasource.routing.read-your-writes-window (default PT5S)</li>
+ * </ul>
+ * </p>
+ */
+@Component
+public class ReadYourWritesGuard {
+
+    private final long windowMillis;
+    private final Map<Long, Long> lastWriteMillis = new ConcurrentHashMap<>();
+
+    public ReadYourWritesGuard(@Value("${app.datasource.routing.read-your-writes-window:PT5S}") Duration window) {
+        this.windowMillis = window.toMillis();
+    }
+
+    /**
+     * Records that a user's data was just written.
+     *
+     * @param userId The ID of the user.
+     */
+    public void markWrite(Long userId) {
+        lastWriteMillis.put(userId, System.currentTimeMillis());
+    }
+
+    /**
+     * Runs a read for a user, pinning it to the primary if the user wrote within the window.
+     *
+     * @param userId The ID of the user whose data is read.
+     * @param read The read to run.
+     * @return The read's result.
+     */
+    public <T> T read(Long userId, Supplier<T> read) {
+        Long written = lastWriteMillis.get(userId);
+        if (written != null && System.currentTimeMillis() - written < windowMillis) {
+            return DataSourceRouting.onPrimary(read);
+        }
+        return read.get();
+    }
+
+    /**
+     * Forgets writes older than the window.
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.routing.guard-sweep-interval-ms:60000}")
+    public void evictExpired() {
+        long cutoff = System.currentTimeMillis() - windowMillis;
+        lastWriteMillis.values().removeIf(written -> written < cutoff);
+    }
+}
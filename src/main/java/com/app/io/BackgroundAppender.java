@@ -0,0 +1,109 @@
+package com.app.io;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Appends records to an output on a dedicated background thread, so callers never do file I/O.
+ * <p>
+ * Records are handed over through a bounded queue; when it is full, {@link #offer} returns false
+ * and the record is dropped rather than slowing the caller down. The output is flushed whenever
+ * the queue drains, and on close the remaining records are written before the output is closed.
+ * Shared by the span exporter and the Talon.One traffic recorder.
+ *
+ * @param <T> the record type
+ */
+public final class BackgroundAppender<T> implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(BackgroundAppender.class);
+
+    private static final long CLOSE_TIMEOUT_MILLIS = 2000;
+
+    /**
+     * Writes one record to the output.
+     */
+    @FunctionalInterface
+    public interface RecordWriter<T> {
+        void write(T record) throws IOException;
+    }
+
+    private final String name;
+    private final Flushable flushable;
+    private final Closeable closeable;
+    private final RecordWriter<T> recordWriter;
+    private final BlockingQueue<T> queue;
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    /**
+     * Starts the background writer.
+     *
+     * @param name thread name, also used in log messages
+     * @param capacity maximum number of queued records
+     * @param output the output the records are written to; closed by {@link #close()}
+     * @param recordWriter writes one record to the output
+     */
+    public <S extends Flushable & Closeable> BackgroundAppender(
+            String name, int capacity, S output, RecordWriter<T> recordWriter) {
+        this.name = name;
+        this.flushable = output;
+        this.closeable = output;
+        this.recordWriter = recordWriter;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.worker = new Thread(this::drain, name);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Queues a record to be written.
+     *
+     * @param record the record to append
+     * @return false if the record was dropped because the queue was full or the appender is closed
+     */
+    public boolean offer(T record) {
+        return running && queue.offer(record);
+    }
+
+    private void drain() {
+        while (running || !queue.isEmpty()) {
+            try {
+                T record = queue.poll(500, TimeUnit.MILLISECONDS);
+                if (record == null) {
+                    flushable.flush();
+                    continue;
+                }
+                recordWriter.write(record);
+                if (queue.isEmpty()) {
+                    flushable.flush();
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (IOException ex) {
+                logger.warn("{} failed to write a record: {}", name, ex.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Stops accepting records, writes those still queued (waiting up to two seconds) and closes the output.
+     */
+    @Override
+    public void close() throws IOException {
+        running = false;
+        try {
+            worker.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        closeable.close();
+    }
+}
@@ -0,0 +1,22 @@
+package com.app.model;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * DTO for incremental changes to an existing cart session.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CartDeltaRequest {
+    @NotNull
+    @Size(min = 1)
+    @Valid
+    private List<ItemDelta> changes;
+}
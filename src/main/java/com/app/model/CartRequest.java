@@ -1,6 +1,7 @@
 package com.app.model;
 
 import lombok.*;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import java.util.List;
@@ -18,5 +19,6 @@ public class CartRequest {
 
     @NotNull
     @Size(min = 1)
+    @Valid
     private List<Item> items;
 }
@@ -0,0 +1,18 @@
+package com.app.model;
+
+import lombok.*;
+
+/**
+ * DTO describing the current state of a server-side cart session.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CartSessionResponse {
+    private String sessionId;
+    private Long userId;
+    private int lineCount;
+    private Money cartTotal;
+    private RewardsResponse rewards; // null until the session has been evaluated
+}
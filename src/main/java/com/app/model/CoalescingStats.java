@@ -0,0 +1,18 @@
+package com.app.model;
+
+import lombok.*;
+
+/**
+ * DTO reporting how effectively concurrent identical evaluations are being coalesced.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CoalescingStats {
+    private long leaders; // evaluations that called Talon.One
+    private long followers; // evaluations served from another caller's in-flight call
+    private long overflow; // evaluations that bypassed coalescing because max-waiters was reached
+    private int inFlight;
+    private double coalescingRatio; // followers / all evaluations
+}
@@ -1,10 +1,17 @@
 package com.app.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
 import lombok.*;
 
 /**
  * Item entity representing a product in an order or cart.
+ * Order lines persist only the catalog product ID, the quantity and the unit price charged, so
+ * history shows what the customer was charged even after the catalog changes. The SKU and name are
+ * not stored: clients identify items by SKU, and both are filled in from the catalog when lines
+ * are read back.
  */
 @Entity
 @Table(name = "items")
@@ -17,16 +24,27 @@ public class Item {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Transient
+    @NotBlank
     private String sku;
 
-    private String name;
+    @Transient
+    private String name; // resolved from the catalog by product ID
 
-    private double price;
+    @Column(precision = 19, scale = 2)
+    private Money price; // unit price charged, resolved from the catalog at order time; client-supplied values are ignored
 
+    @Min(1)
     private int quantity;
 
-    // Many items belong to one order
+    // Many items belong to one order; excluded from equals/hashCode/toString and JSON to break the cycle
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "order_id")
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private Order order;
 }
@@ -0,0 +1,21 @@
+package com.app.model;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import lombok.*;
+
+/**
+ * DTO describing a single line change applied to a cart session.
+ * Sets the SKU's quantity; a quantity of zero removes the line. Prices come from the catalog.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ItemDelta {
+    @NotBlank
+    private String sku;
+
+    @Min(0)
+    private int quantity;
+}
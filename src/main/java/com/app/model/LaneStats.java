@@ -0,0 +1,21 @@
+package com.app.model;
+
+import lombok.*;
+
+/**
+ * DTO reporting the load on an evaluation lane.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LaneStats {
+    private String lane;
+    private int activeThreads;
+    private int asyncInFlight; // non-blocking calls admitted without a lane thread
+    private int queueDepth;
+    private long completed;
+    private long rejected;
+    private double avgWaitMillis; // time from submission until a worker picked the evaluation up
+    private double maxWaitMillis;
+}
@@ -0,0 +1,15 @@
+package com.app.model;
+
+import lombok.*;
+
+/**
+ * DTO for a loyalty balance returned by Talon.One.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LoyaltyBalanceDTO {
+    private String userId;
+    private long balance;
+}
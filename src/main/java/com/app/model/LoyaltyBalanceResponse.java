@@ -0,0 +1,15 @@
+package com.app.model;
+
+import lombok.*;
+
+/**
+ * DTO for a user's loyalty point balance, served from the local ledger index.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LoyaltyBalanceResponse {
+    private Long userId;
+    private long balance;
+}
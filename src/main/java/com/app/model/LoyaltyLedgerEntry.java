@@ -0,0 +1,36 @@
+package com.app.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.Instant;
+
+/**
+ * Append-only ledger entry recording a single loyalty point movement for a user.
+ * Entries are never updated; corrections are recorded as new RECONCILIATION entries.
+ */
+@Entity
+@Immutable
+@Table(name = "loyalty_ledger", indexes = @Index(name = "idx_loyalty_ledger_user", columnList = "user_id"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LoyaltyLedgerEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "order_id")
+    private Long orderId; // null for reconciliation entries
+
+    private long points; // positive when earned, negative when used
+
+    private String reason; // e.g., EARNED, USED, RECONCILIATION
+
+    private Instant createdAt;
+}
@@ -0,0 +1,183 @@
+package com.app.model;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+/**
+ * Immutable fixed-point monetary amount, stored as a {@code long} number of minor units (cents).
+ * <p>
+ * Used for all prices, totals and discounts on the order and rewards path instead of {@code double},
+ * so sums are exact and carts can be totalled without boxing. Persisted through {@link MoneyConverter}
+ * as a decimal amount in major units, in the same columns that held the former {@code double}
+ * amounts, and serialized to JSON (and Talon.One payloads) as a plain decimal
+ * number with two fraction digits, e.g. {@code 12.34}.
+ */
+@JsonSerialize(using = Money.Serializer.class)
+@JsonDeserialize(using = Money.Deserializer.class)
+public final class Money implements Comparable<Money> {
+
+    public static final int SCALE = 2;
+    public static final Money ZERO = new Money(0);
+
+    private final long minorUnits;
+
+    private Money(long minorUnits) {
+        this.minorUnits = minorUnits;
+    }
+
+    /**
+     * Creates an amount from minor units, e.g. {@code ofMinor(1234)} is 12.34.
+     */
+    public static Money ofMinor(long minorUnits) {
+        return minorUnits == 0 ? ZERO : new Money(minorUnits);
+    }
+
+    /**
+     * Creates an amount from a decimal value, rounding half-even to two fraction digits.
+     */
+    public static Money of(BigDecimal amount) {
+        return ofMinor(amount.setScale(SCALE, RoundingMode.HALF_EVEN).unscaledValue().longValueExact());
+    }
+
+    /**
+     * Parses a decimal string such as "12.34".
+     *
+     * @throws NumberFormatException if the value is not a decimal number
+     */
+    public static Money parse(String amount) {
+        return of(new BigDecimal(amount.trim()));
+    }
+
+    /**
+     * Returns the amount, or zero if it is null.
+     */
+    public static Money orZero(Money amount) {
+        return amount == null ? ZERO : amount;
+    }
+
+    /**
+     * Sums unit price times quantity over cart items without boxing or intermediate allocations.
+     *
+     * @param items items whose prices have been resolved
+     * @return the total in minor units
+     * @throws ArithmeticException on overflow
+     */
+    public static long sumLineTotals(List<Item> items) {
+        long total = 0;
+        for (int i = 0, n = items.size(); i < n; i++) {
+            Item item = items.get(i);
+            total = Math.addExact(total, Math.multiplyExact(item.getPrice().minorUnits, item.getQuantity()));
+        }
+        return total;
+    }
+
+    public long getMinorUnits() {
+        return minorUnits;
+    }
+
+    public Money plus(Money other) {
+        return ofMinor(Math.addExact(minorUnits, other.minorUnits));
+    }
+
+    public Money minus(Money other) {
+        return ofMinor(Math.subtractExact(minorUnits, other.minorUnits));
+    }
+
+    public Money times(int quantity) {
+        return ofMinor(Math.multiplyExact(minorUnits, quantity));
+    }
+
+    /**
+     * Returns this amount, or zero if it is negative.
+     */
+    public Money atLeastZero() {
+        return minorUnits < 0 ? ZERO : this;
+    }
+
+    public boolean isZero() {
+        return minorUnits == 0;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Money other && other.minorUnits == minorUnits;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(minorUnits);
+    }
+
+    /**
+     * Returns the plain decimal representation, e.g. "12.34" or "-0.05".
+     */
+    @Override
+    public String toString() {
+        long abs = Math.abs(minorUnits);
+        long fraction = abs % 100;
+        StringBuilder sb = new StringBuilder(24);
+        if (minorUnits < 0) {
+            sb.append('-');
+        }
+        sb.append(abs / 100).append('.');
+        if (fraction < 10) {
+            sb.append('0');
+        }
+        return sb.append(fraction).toString();
+    }
+
+    /**
+     * Writes amounts as decimal numbers.
+     */
+    static final class Serializer extends JsonSerializer<Money> {
+        @Override
+        public void serialize(Money value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeNumber(value.toBigDecimal());
+        }
+    }
+
+    /**
+     * Reads amounts from decimal numbers or numeric strings.
+     */
+    static final class Deserializer extends JsonDeserializer<Money> {
+        @Override
+        public Money deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            JsonToken token = p.currentToken();
+            if (token == JsonToken.VALUE_NUMBER_INT) {
+                return ofMinor(Math.multiplyExact(p.getLongValue(), 100L));
+            }
+            if (token == JsonToken.VALUE_NUMBER_FLOAT) {
+                return of(p.getDecimalValue());
+            }
+            if (token == JsonToken.VALUE_STRING) {
+                try {
+                    return parse(p.getText());
+                } catch (NumberFormatException ex) {
+                    return (Money) ctxt.handleWeirdStringValue(Money.class, p.getText(), "not a decimal amount");
+                }
+            }
+            return (Money) ctxt.handleUnexpectedToken(Money.class, p);
+        }
+    }
+}
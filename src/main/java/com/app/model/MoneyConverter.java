@@ -0,0 +1,27 @@
+package com.app.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.math.BigDecimal;
+
+/**
+ * JPA converter persisting {@link Money} as a decimal amount in major units (e.g. 12.34).
+ * Applied automatically to every Money attribute.
+ * <p>
+ * Amounts keep the columns and units of the former {@code double} fields, so existing rows read
+ * back unchanged without a data migration; values are rounded to cents on read.
+ */
+@Converter(autoApply = true)
+public class MoneyConverter implements AttributeConverter<Money, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(Money attribute) {
+        return attribute == null ? null : attribute.toBigDecimal();
+    }
+
+    @Override
+    public Money convertToEntityAttribute(BigDecimal dbData) {
+        return dbData == null ? null : Money.of(dbData);
+    }
+}
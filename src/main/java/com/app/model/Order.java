@@ -3,13 +3,14 @@ package com.app.model;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.Instant;
 import java.util.List;
 
 /**
  * Order entity representing a placed order.
  */
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = @Index(name = "idx_orders_created_at", columnList = "createdAt"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -28,9 +29,13 @@ public class Order {
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Item> items;
 
-    private double totalAmount;
+    @Column(precision = 19, scale = 2)
+    private Money totalAmount;
 
-    private double discountApplied;
+    @Column(precision = 19, scale = 2)
+    private Money discountApplied;
 
     private String status; // e.g., PLACED, CANCELLED, etc.
+
+    private Instant createdAt; // used to select cold orders for archival
 }
@@ -1,6 +1,7 @@
 package com.app.model;
 
 import lombok.*;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import java.util.List;
@@ -18,5 +19,9 @@ public class OrderRequest {
 
     @NotNull
     @Size(min = 1)
+    @Valid
     private List<Item> items;
+
+    // Optional token from a prior /rewards/evaluate call; lets checkout skip re-evaluation of an unchanged cart
+    private String evaluationToken;
 }
@@ -0,0 +1,50 @@
+package com.app.model;
+
+import lombok.*;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Read model for an order, served uniformly from Postgres or from the cold archive.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderSummary {
+    private Long id;
+    private Long userId;
+    private Instant createdAt;
+    private Money totalAmount;
+    private Money discountApplied;
+    private String status;
+    private List<Item> items;
+    private boolean archived; // true when served from an archive segment
+
+    /**
+     * Builds a summary from a persisted order. Items must be initialized; lines saved without a
+     * SKU, name or price need them filled in from the catalog.
+     */
+    public static OrderSummary fromOrder(Order order) {
+        List<Item> items = order.getItems() == null ? List.of() : order.getItems().stream()
+                .map(item -> Item.builder()
+                        .productId(item.getProductId())
+                        .sku(item.getSku())
+                        .name(item.getName())
+                        .price(item.getPrice())
+                        .quantity(item.getQuantity())
+                        .build())
+                .toList();
+        return OrderSummary.builder()
+                .id(order.getId())
+                .userId(order.getUser() != null ? order.getUser().getId() : null)
+                .createdAt(order.getCreatedAt())
+                .totalAmount(order.getTotalAmount())
+                .discountApplied(order.getDiscountApplied())
+                .status(order.getStatus())
+                .items(items)
+                .archived(false)
+                .build();
+    }
+}
@@ -0,0 +1,19 @@
+package com.app.model;
+
+import lombok.*;
+
+/**
+ * DTO reporting the state of a database connection pool.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PoolStats {
+    private String pool;
+    private long routedConnections; // connections handed out by the routing data source
+    private int activeConnections;
+    private int idleConnections;
+    private int totalConnections;
+    private int threadsAwaitingConnection;
+}
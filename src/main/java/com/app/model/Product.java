@@ -0,0 +1,27 @@
+package com.app.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Product entity representing a catalog entry. The single source of truth for SKU names and prices.
+ */
+@Entity
+@Table(name = "products", uniqueConstraints = @UniqueConstraint(name = "uk_products_sku", columnNames = "sku"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Product {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String sku;
+
+    private String name;
+
+    @Column(precision = 19, scale = 2)
+    private Money price; // products without a price are left out of the SKU index
+}
@@ -12,6 +12,6 @@ import lombok.*;
 public class ProfileDTO {
     private String userId;
     private int totalOrders;
-    private double totalSpent;
+    private Money totalSpent;
     // Add additional profile fields as needed for Talon.One
 }
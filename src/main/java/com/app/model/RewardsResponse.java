@@ -1,6 +1,8 @@
 package com.app.model;
 
 import lombok.*;
+
+import java.time.Instant;
 import java.util.List;
 
 /**
@@ -9,20 +11,22 @@ import java.util.List;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class RewardsResponse {
-    private double discountAmount;
+    private Money discountAmount;
     private List<String> appliedRewards; // e.g., list of applied campaign names
     private int loyaltyPointsUsed;
     private int loyaltyPointsEarned;
     private String message; // Optional message for the user
+    private String evaluationToken; // Present on cart evaluations; can be presented at checkout
+    private Instant evaluationExpiresAt;
 
     /**
      * Factory method for error responses.
      */
     public static RewardsResponse error(String message) {
         return RewardsResponse.builder()
-                .discountAmount(0)
+                .discountAmount(Money.ZERO)
                 .appliedRewards(List.of())
                 .loyaltyPointsUsed(0)
                 .loyaltyPointsEarned(0)
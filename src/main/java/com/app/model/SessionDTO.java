@@ -13,6 +13,6 @@ import java.util.List;
 public class SessionDTO {
     private String userId;
     private List<Item> items;
-    private double cartTotal;
+    private Money cartTotal;
     // Additional session fields as required by Talon.One
 }
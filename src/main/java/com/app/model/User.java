@@ -21,7 +21,9 @@ public class User {
 
     private int totalOrders;
 
-    private double totalSpent;
+    @Column(precision = 19, scale = 2)
+    @Builder.Default
+    private Money totalSpent = Money.ZERO;
 
     // Additional user profile fields can be added as needed (e.g., email, name)
 }
@@ -0,0 +1,24 @@
+package com.app.repository;
+
+import com.app.model.LoyaltyLedgerEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+/**
+ * Repository interface for LoyaltyLedgerEntry entity.
+ * 
+ * The ledger is append-only: callers only save new entries. The aggregate query is used
+ * to rebuild the in-memory balance index on startup.
+ */
+public interface LoyaltyLedgerRepository extends JpaRepository<LoyaltyLedgerEntry, Long> {
+
+    /**
+     * Sums point movements per user.
+     *
+     * @return rows of [userId (Long), balance (Long)]
+     */
+    @Query("select e.userId, sum(e.points) from LoyaltyLedgerEntry e group by e.userId")
+    List<Object[]> sumPointsByUser();
+}
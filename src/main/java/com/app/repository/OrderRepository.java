@@ -1,7 +1,16 @@
 package com.app.repository;
 
 import com.app.model.Order;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository interface for Order entity.
@@ -10,8 +19,47 @@ import org.springframework.data.jpa.repository.JpaRepository;
  * This interface extends JpaRepository, enabling standard data access methods
  * such as save, findById, findAll, deleteById, etc., for the Order entity.
  * 
- * No custom query methods are defined, adhering to Spring Data JPA conventions.
+ * Custom queries support the order history read path and archival of cold orders.
  */
 public interface OrderRepository extends JpaRepository<Order, Long> {
-    // Default query methods provided by JpaRepository are sufficient.
+
+    /**
+     * Finds an order with its items initialized.
+     */
+    @Query("select o from Order o left join fetch o.items where o.id = :id")
+    Optional<Order> findWithItemsById(@Param("id") Long id);
+
+    /**
+     * Finds all orders of a user with their items initialized.
+     */
+    @Query("select distinct o from Order o left join fetch o.items where o.user.id = :userId")
+    List<Order> findWithItemsByUserId(@Param("userId") Long userId);
+
+    /**
+     * Finds IDs of orders created before the cutoff, oldest first.
+     * Orders without a creation time predate the column and are treated as old.
+     */
+    @Query("select o.id from Order o where o.createdAt is null or o.createdAt < :cutoff order by o.id")
+    List<Long> findIdsCreatedBefore(@Param("cutoff") Instant cutoff, Pageable pageable);
+
+    /**
+     * Loads orders with their items and users initialized, ordered by ID.
+     * Orders without a user are included.
+     */
+    @Query("select distinct o from Order o left join fetch o.user left join fetch o.items where o.id in :ids order by o.id")
+    List<Order> findWithItemsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Deletes the items of the given orders in bulk.
+     */
+    @Modifying
+    @Query("delete from Item i where i.order.id in :ids")
+    int deleteItemsByOrderIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Deletes the given orders in bulk. Items must be deleted first.
+     */
+    @Modifying
+    @Query("delete from Order o where o.id in :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,17 @@
+package com.app.repository;
+
+import com.app.model.Product;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * Repository interface for Product entity.
+ * Provides CRUD operations and query methods for Product data.
+ * 
+ * This interface extends JpaRepository, enabling standard data access methods
+ * such as save, findById, findAll, deleteById, etc., for the Product entity.
+ * 
+ * The catalog is read in full by CatalogService to build the in-memory SKU index.
+ */
+public interface ProductRepository extends JpaRepository<Product, Long> {
+    // Default query methods provided by JpaRepository are sufficient.
+}
@@ -1,7 +1,12 @@
 package com.app.repository;
 
 import com.app.model.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 /**
  * Repository interface for User entity.
@@ -9,9 +14,12 @@ import org.springframework.data.jpa.repository.JpaRepository;
  * 
  * This interface extends JpaRepository, enabling standard data access methods
  * such as save, findById, findAll, deleteById, etc., for the User entity.
- * 
- * No custom query methods are defined, adhering to Spring Data JPA conventions.
  */
 public interface UserRepository extends JpaRepository<User, Long> {
-    // Default query methods provided by JpaRepository are sufficient.
+
+    /**
+     * Finds user IDs greater than the given ID in ascending order, for keyset paging over all users.
+     */
+    @Query("select u.id from User u where u.id > :afterId order by u.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
 }
@@ -0,0 +1,51 @@
+package com.app.service;
+
+import com.app.model.Item;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Computes a canonical fingerprint of a cart.
+ * <p>
+ * Two carts have the same fingerprint when they belong to the same user and contain the same
+ * SKUs with the same quantities and prices, regardless of line order or item names.
+ */
+public final class CartFingerprint {
+
+    private CartFingerprint() {
+    }
+
+    /**
+     * Computes the fingerprint for a user's cart.
+     *
+     * @param userId The ID of the user.
+     * @param items The cart items.
+     * @return A URL-safe, fixed-length fingerprint string.
+     */
+    public static String of(Long userId, List<Item> items) {
+        List<Item> sorted = new ArrayList<>(items);
+        sorted.sort(Comparator.comparing(Item::getSku, Comparator.nullsFirst(Comparator.naturalOrder())));
+
+        StringBuilder canonical = new StringBuilder(32 + sorted.size() * 24);
+        canonical.append(userId);
+        for (Item item : sorted) {
+            canonical.append('|').append(item.getSku())
+                    .append(':').append(item.getQuantity())
+                    .append(':').append(item.getPrice());
+        }
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(canonical.toString().getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.app.service;
+
+import com.app.model.CartRequest;
+import com.app.model.Item;
+import com.app.model.ItemDelta;
+import com.app.model.Money;
+import com.app.model.RewardsResponse;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * In-memory state of a single cart session.
+ * <p>
+ * Keeps one compact line per SKU, priced from the catalog, and maintains the cart total
+ * incrementally as deltas arrive. Lines whose SKU has been removed from the catalog are dropped
+ * when the session is re-priced. The last Talon.One evaluation is cached and only invalidated
+ * by changes that can affect it (a quantity or catalog price change), so repeated reads of an
+ * unchanged cart do not re-evaluate. Every invalidation bumps a generation counter, and an
+ * evaluation is only stored if the generation it was computed for is still current, so a slow
+ * evaluation cannot overwrite the cart with a result for its older contents. A cached evaluation
+ * is dropped once its evaluation token has expired, since checkout could no longer reuse it.
+ * A batch of deltas is validated in full before any of it is applied, so a rejected batch leaves
+ * the cart unchanged. All access is synchronized on the session instance.
+ */
+class CartSession {
+
+    private final String id;
+    private final Long userId;
+    private final Map<String, Line> lines = new LinkedHashMap<>();
+    private long cartTotal; // minor units
+    private long catalogVersion;
+    private RewardsResponse evaluation;
+    private long generation;
+    private volatile long lastAccessMillis;
+
+    CartSession(String id, Long userId, List<Item> items, SkuIndex catalog) {
+        this.id = id;
+        this.userId = userId;
+        this.catalogVersion = catalog.getVersion();
+        applyAll(mergeInitialItems(items), catalog);
+        touch();
+    }
+
+    /**
+     * Turns the initial cart into one delta per SKU, summing the quantities of repeated SKUs.
+     *
+     * @throws IllegalArgumentException if an item has no SKU or a quantity below one
+     */
+    private static List<ItemDelta> mergeInitialItems(List<Item> items) {
+        Map<String, Integer> quantities = new LinkedHashMap<>();
+        for (Item item : items) {
+            if (item.getSku() == null) {
+                throw new IllegalArgumentException("Cart item has no SKU");
+            }
+            if (item.getQuantity() <= 0) {
+                throw new IllegalArgumentException("Quantity for SKU " + item.getSku() + " must be at least 1");
+            }
+            quantities.merge(item.getSku(), item.getQuantity(), Math::addExact);
+        }
+        List<ItemDelta> deltas = new ArrayList<>(quantities.size());
+        quantities.forEach((sku, quantity) -> deltas.add(new ItemDelta(sku, quantity)));
+        return deltas;
+    }
+
+    String getId() {
+        return id;
+    }
+
+    Long getUserId() {
+        return userId;
+    }
+
+    long getLastAccessMillis() {
+        return lastAccessMillis;
+    }
+
+    void touch() {
+        lastAccessMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * Applies a batch of line deltas atomically, updating the running total.
+     * Every delta is validated first; if any is rejected, none is applied.
+     *
+     * @param deltas the changes to apply, at most one per SKU
+     * @param catalog the current catalog snapshot
+     * @throws IllegalArgumentException if a SKU repeats, a quantity is negative, or a new SKU is not in the catalog
+     */
+    synchronized void applyAll(List<ItemDelta> deltas, SkuIndex catalog) {
+        reprice(catalog);
+        Set<String> seen = new HashSet<>();
+        long[] prices = new long[deltas.size()];
+        for (int i = 0; i < deltas.size(); i++) {
+            ItemDelta delta = deltas.get(i);
+            if (delta.getSku() == null || !seen.add(delta.getSku())) {
+                throw new IllegalArgumentException("Each change must name a distinct SKU");
+            }
+            if (delta.getQuantity() < 0) {
+                throw new IllegalArgumentException("Quantity for SKU " + delta.getSku() + " must not be negative");
+            }
+            Line line = lines.get(delta.getSku());
+            if (line != null) {
+                prices[i] = line.price;
+            } else if (delta.getQuantity() > 0) {
+                prices[i] = catalog.priceOf(delta.getSku()).getMinorUnits();
+            }
+        }
+
+        long total = cartTotal;
+        for (int i = 0; i < deltas.size(); i++) {
+            Line line = lines.get(deltas.get(i).getSku());
+            long previous = line == null ? 0 : line.quantity;
+            total = Math.addExact(total, Math.multiplyExact(prices[i], deltas.get(i).getQuantity() - previous));
+        }
+
+        for (int i = 0; i < deltas.size(); i++) {
+            applyValidated(deltas.get(i), prices[i]);
+        }
+        cartTotal = total;
+    }
+
+    private void applyValidated(ItemDelta delta, long price) {
+        Line line = lines.get(delta.getSku());
+        if (line == null) {
+            if (delta.getQuantity() == 0) {
+                return;
+            }
+            lines.put(delta.getSku(), new Line(price, delta.getQuantity()));
+            invalidate();
+            return;
+        }
+
+        if (delta.getQuantity() == line.quantity) {
+            return; // Nothing that affects evaluation has changed
+        }
+        if (delta.getQuantity() == 0) {
+            lines.remove(delta.getSku());
+        } else {
+            line.quantity = delta.getQuantity();
+        }
+        invalidate();
+    }
+
+    /**
+     * Re-prices all lines if the catalog has been reloaded since the session was last priced.
+     * Lines whose SKU is no longer in the catalog are removed.
+     *
+     * @param catalog the current catalog snapshot
+     */
+    synchronized void reprice(SkuIndex catalog) {
+        if (catalog.getVersion() == catalogVersion) {
+            return;
+        }
+        catalogVersion = catalog.getVersion();
+        long total = 0;
+        Iterator<Map.Entry<String, Line>> entries = lines.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<String, Line> entry = entries.next();
+            Line line = entry.getValue();
+            Optional<Money> price = catalog.findPrice(entry.getKey());
+            if (price.isEmpty()) {
+                entries.remove(); // Delisted; the line can no longer be priced or ordered
+                invalidate();
+                continue;
+            }
+            if (price.get().getMinorUnits() != line.price) {
+                line.price = price.get().getMinorUnits();
+                invalidate();
+            }
+            total = Math.addExact(total, Math.multiplyExact(line.price, line.quantity));
+        }
+        cartTotal = total;
+    }
+
+    synchronized int getLineCount() {
+        return lines.size();
+    }
+
+    synchronized Money getCartTotal() {
+        return Money.ofMinor(cartTotal);
+    }
+
+    /**
+     * Returns the cached evaluation, or null if there is none or its evaluation token has expired.
+     */
+    synchronized RewardsResponse getEvaluation() {
+        if (evaluation != null && evaluation.getEvaluationExpiresAt() != null
+                && evaluation.getEvaluationExpiresAt().isBefore(Instant.now())) {
+            evaluation = null; // Expired tokens cannot be claimed at checkout; evaluate afresh
+        }
+        return evaluation;
+    }
+
+    synchronized long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Stores an evaluation if the cart has not changed since it was requested.
+     *
+     * @param evaluation the evaluation result
+     * @param evaluatedGeneration the generation read before the cart was materialized
+     * @return true if the evaluation was stored
+     */
+    synchronized boolean setEvaluation(RewardsResponse evaluation, long evaluatedGeneration) {
+        if (evaluatedGeneration != generation) {
+            return false;
+        }
+        this.evaluation = evaluation;
+        return true;
+    }
+
+    private void invalidate() {
+        evaluation = null;
+        generation++;
+    }
+
+    /**
+     * Materializes the session as a full cart request for Talon.One evaluation.
+     *
+     * @return a CartRequest snapshot of the current lines
+     */
+    synchronized CartRequest toCartRequest() {
+        List<Item> items = new ArrayList<>(lines.size());
+        for (Map.Entry<String, Line> entry : lines.entrySet()) {
+            Line line = entry.getValue();
+            items.add(Item.builder()
+                    .sku(entry.getKey())
+                    .quantity(line.quantity)
+                    .build());
+        }
+        return new CartRequest(userId, items);
+    }
+
+    private static final class Line {
+        private long price; // minor units
+        private int quantity;
+
+        private Line(long price, int quantity) {
+            this.price = price;
+            this.quantity = quantity;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.app.service;
+
+import com.app.model.CartDeltaRequest;
+import com.app.model.CartRequest;
+import com.app.model.CartSessionResponse;
+import com.app.model.RewardsResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service layer for server-side cart sessions.
+ * Holds cart state in memory so clients can send line deltas instead of the full cart,
+ * and re-evaluates against Talon.One only when the cart has changed since the last evaluation.
+ * Lines are priced from the catalog and re-priced when the catalog is reloaded.
+ * The number of live sessions is capped; creation is refused once the cap is reached.
+ */
+@Service
+public class CartSessionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CartSessionService.class);
+
+    private final RewardsService rewardsService;
+    private final CatalogService catalogService;
+    private final long idleTimeoutMillis;
+    private final int maxSessions;
+    private final Map<String, CartSession> sessions = new ConcurrentHashMap<>();
+
+    public CartSessionService(
+            RewardsService rewardsService,
+            CatalogService catalogService,
+            @Value("${rewards.sessions.idle-timeout:PT30M}") Duration idleTimeout,
+            @Value("${rewards.sessions.max-sessions:100000}") int maxSessions) {
+        this.rewardsService = rewardsService;
+        this.catalogService = catalogService;
+        this.idleTimeoutMillis = idleTimeout.toMillis();
+        this.maxSessions = maxSessions;
+    }
+
+    /**
+     * Creates a new cart session from an initial cart.
+     *
+     * @param req The initial cart contents.
+     * @return The state of the newly created session.
+     * @throws SessionLimitExceededException if the maximum number of sessions is already live.
+     */
+    public CartSessionResponse createSession(CartRequest req) {
+        if (sessions.size() >= maxSessions) {
+            throw new SessionLimitExceededException("Cart session limit of " + maxSessions + " reached");
+        }
+        String id = UUID.randomUUID().toString();
+        CartSession session = new CartSession(id, req.getUserId(), req.getItems(), catalogService.getIndex());
+        sessions.put(id, session);
+        return toResponse(session, null);
+    }
+
+    /**
+     * Applies line deltas to an existing session.
+     *
+     * @param sessionId The ID of the session.
+     * @param req The deltas to apply.
+     * @return The updated session state, or empty if the session does not exist or has expired.
+     * @throws IllegalArgumentException if any delta is invalid; the session is then left unchanged.
+     */
+    public Optional<CartSessionResponse> applyDeltas(String sessionId, CartDeltaRequest req) {
+        CartSession session = sessions.get(sessionId);
+        if (session == null) {
+            return Optional.empty();
+        }
+        session.touch();
+        session.applyAll(req.getChanges(), catalogService.getIndex());
+        return Optional.of(toResponse(session, session.getEvaluation()));
+    }
+
+    /**
+     * Returns the current evaluation of a session, calling Talon.One only if the cart changed.
+     *
+     * @param sessionId The ID of the session.
+     * @return The evaluated session state, or empty if the session does not exist or has expired.
+     */
+    public Optional<CartSessionResponse> evaluate(String sessionId) {
+        CartSession session = sessions.get(sessionId);
+        if (session == null) {
+            return Optional.empty();
+        }
+        session.touch();
+        session.reprice(catalogService.getIndex());
+        RewardsResponse evaluation = session.getEvaluation();
+        if (evaluation == null) {
+            if (session.getLineCount() == 0) {
+                evaluation = RewardsResponse.error("Cart is empty");
+            } else {
+                long generation = session.getGeneration();
+                evaluation = rewardsService.evaluateCart(session.toCartRequest());
+                if (!session.setEvaluation(evaluation, generation)) {
+                    logger.debug("Cart session {} changed during evaluation; result not cached", sessionId);
+                }
+            }
+        }
+        return Optional.of(toResponse(session, evaluation));
+    }
+
+    /**
+     * Removes sessions that have been idle for longer than the configured timeout.
+     */
+    @Scheduled(fixedDelayString = "${rewards.sessions.sweep-interval-ms:60000}")
+    public void evictIdleSessions() {
+        long cutoff = System.currentTimeMillis() - idleTimeoutMillis;
+        int before = sessions.size();
+        sessions.values().removeIf(session -> session.getLastAccessMillis() < cutoff);
+        int evicted = before - sessions.size();
+        if (evicted > 0) {
+            logger.info("Evicted {} idle cart sessions", evicted);
+        }
+    }
+
+    private CartSessionResponse toResponse(CartSession session, RewardsResponse evaluation) {
+        return CartSessionResponse.builder()
+                .sessionId(session.getId())
+                .userId(session.getUserId())
+                .lineCount(session.getLineCount())
+                .cartTotal(session.getCartTotal())
+                .rewards(evaluation)
+                .build();
+    }
+
+    /**
+     * Thrown when a session cannot be created because the session cap has been reached.
+     */
+    public static class SessionLimitExceededException extends RuntimeException {
+        public SessionLimitExceededException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.app.service;
+
+import com.app.model.Item;
+import com.app.model.Money;
+import com.app.model.Product;
+import com.app.repository.ProductRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Service layer for the product catalog.
+ * Serves lookups and cart pricing from an immutable {@link SkuIndex}, which is rebuilt from the
+ * products table during startup (before the web server accepts requests), periodically, and on
+ * demand, and swapped in atomically.
+ */
+@Service
+@RequiredArgsConstructor
+public class CatalogService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogService.class);
+
+    private final ProductRepository productRepository;
+    private final AtomicReference<SkuIndex> index = new AtomicReference<>(SkuIndex.EMPTY);
+    private final AtomicLong versions = new AtomicLong();
+
+    /**
+     * Rebuilds the SKU index from the products table and swaps it in.
+     */
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${catalog.reload-interval-ms:300000}", initialDelayString = "${catalog.reload-interval-ms:300000}")
+    public void reload() {
+        List<Product> products = productRepository.findAll();
+        SkuIndex reloaded = new SkuIndex(products, versions.incrementAndGet());
+        index.set(reloaded);
+        logger.info("Loaded SKU index version {} with {} products", reloaded.getVersion(), reloaded.size());
+        if (reloaded.size() < products.size()) {
+            logger.warn("Skipped {} products without a price", products.size() - reloaded.size());
+        }
+    }
+
+    /**
+     * Returns the current catalog snapshot.
+     */
+    public SkuIndex getIndex() {
+        return index.get();
+    }
+
+    /**
+     * Resolves cart items against the catalog and returns the server-side cart total.
+     * 
+     * @param items The cart items, identified by SKU.
+     * @return The cart total at catalog prices.
+     * @throws IllegalArgumentException if an item's SKU is not in the catalog.
+     */
+    public Money priceItems(List<Item> items) {
+        return index.get().priceItems(items);
+    }
+
+    /**
+     * Fills in SKU, name and price missing from persisted order lines, from their product IDs.
+     * 
+     * @param items The order lines.
+     */
+    public void describeItems(List<Item> items) {
+        index.get().describeItems(items);
+    }
+}
@@ -0,0 +1,158 @@
+package com.app.service;
+
+import com.app.model.CoalescingStats;
+import com.app.model.RewardsResponse;
+import com.app.tracing.RequestTimings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight coalescing of concurrent identical evaluations.
+ * <p>
+ * The first caller for a key (the leader) runs the evaluation; callers arriving with the same key
+ * while it is in flight wait for and share its result instead of calling Talon.One again.
+ * Nothing is cached once the call completes. Only previews are coalesced; a checkout redeems its
+ * evaluation, so it always gets its own. At most max-waiters callers may join one call;
+ * further callers run their own evaluation so a slow call cannot accumulate unbounded waiters.
+ *
+ * <p>
+ * Optional properties in application.properties:
+ * <ul>
+ *     <li>rewards.coalescing.max-waiters (default 64)</li>
+ * </ul>
+ * </p>
+ */
+@Component
+public class EvaluationCoalescer {
+
+    private final int maxWaiters;
+    private final Map<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder leaders = new LongAdder();
+    private final LongAdder followers = new LongAdder();
+    private final LongAdder overflow = new LongAdder();
+
+    public EvaluationCoalescer(@Value("${rewards.coalescing.max-waiters:64}") int maxWaiters) {
+        this.maxWaiters = maxWaiters;
+    }
+
+    /**
+     * Runs the evaluation for a key, or joins an identical evaluation already in flight.
+     *
+     * @param key canonical key of the evaluation, e.g. a cart fingerprint
+     * @param evaluation the evaluation to run if no identical one is in flight
+     * @return the evaluation result, possibly shared with other callers
+     */
+    public RewardsResponse execute(String key, Supplier<RewardsResponse> evaluation) {
+        InFlight call = new InFlight();
+        InFlight existing = inFlight.putIfAbsent(key, call);
+
+        if (existing == null) {
+            leaders.increment();
+            try {
+                RewardsResponse result = evaluation.get();
+                call.future.complete(result);
+                return result;
+            } catch (Throwable ex) {
+                // Errors too, or followers would wait on the future forever
+                call.future.completeExceptionally(ex);
+                throw ex;
+            } finally {
+                inFlight.remove(key, call);
+            }
+        }
+
+        if (existing.waiters.incrementAndGet() > maxWaiters) {
+            existing.waiters.decrementAndGet();
+            overflow.increment();
+            return evaluation.get();
+        }
+
+        followers.increment();
+        try {
+            return RequestTimings.time("rewards.coalescedWait", existing.future::join);
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Non-blocking variant of {@link #execute}: followers receive the leader's future rather
+     * than waiting on a thread for it.
+     *
+     * @param key canonical key of the evaluation, e.g. a cart fingerprint
+     * @param evaluation starts the evaluation if no identical one is in flight
+     * @return future of the evaluation result, possibly shared with other callers
+     */
+    public CompletableFuture<RewardsResponse> executeAsync(
+            String key, Supplier<CompletableFuture<RewardsResponse>> evaluation) {
+        InFlight call = new InFlight();
+        InFlight existing = inFlight.putIfAbsent(key, call);
+
+        if (existing == null) {
+            leaders.increment();
+            CompletableFuture<RewardsResponse> started;
+            try {
+                started = evaluation.get();
+            } catch (Throwable ex) {
+                inFlight.remove(key, call);
+                call.future.completeExceptionally(ex);
+                throw ex;
+            }
+            started.whenComplete((result, ex) -> {
+                inFlight.remove(key, call);
+                if (ex != null) {
+                    call.future.completeExceptionally(ex);
+                } else {
+                    call.future.complete(result);
+                }
+            });
+            return call.future;
+        }
+
+        if (existing.waiters.incrementAndGet() > maxWaiters) {
+            existing.waiters.decrementAndGet();
+            overflow.increment();
+            return evaluation.get();
+        }
+
+        followers.increment();
+        return existing.future;
+    }
+
+    /**
+     * Returns a snapshot of the coalescing metrics.
+     */
+    public CoalescingStats getStats() {
+        long led = leaders.sum();
+        long followed = followers.sum();
+        long overflowed = overflow.sum();
+        long total = led + followed + overflowed;
+        return CoalescingStats.builder()
+                .leaders(led)
+                .followers(followed)
+                .overflow(overflowed)
+                .inFlight(inFlight.size())
+                .coalescingRatio(total == 0 ? 0 : (double) followed / total)
+                .build();
+    }
+
+    private static final class InFlight {
+        private final CompletableFuture<RewardsResponse> future = new CompletableFuture<>();
+        private final AtomicInteger waiters = new AtomicInteger();
+    }
+}
@@ -0,0 +1,220 @@
+package com.app.service;
+
+import com.app.model.LaneStats;
+import com.app.tracing.RequestTimings;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * A bounded execution lane for Talon.One evaluations.
+ * <p>
+ * Each lane owns its own fixed thread pool with a bounded queue, so traffic in one lane cannot
+ * exhaust the threads or Talon.One concurrency of another; the thread count is the lane's limit on
+ * concurrent outbound calls. Work is rejected with {@link LaneRejectedException} when the queue is
+ * full, when it has waited in the queue longer than the configured maximum by the time a worker
+ * picks it up, or when the lane's shed condition holds. A caller waiting in {@link #execute} gives up
+ * with the same exception once the maximum queue wait plus the maximum execution time has passed.
+ * The caller's {@link RequestTimings} are carried onto the worker thread, and the time spent
+ * queued is recorded as a {@code lane.<name>.wait} stage.
+ * <p>
+ * Non-blocking calls are admitted with {@link #admit} instead: they hold no lane thread, but count
+ * against the same concurrency limit and shed condition, and are rejected rather than queued.
+ */
+public class EvaluationLane {
+
+    private final String name;
+    private final int threads;
+    private final ThreadPoolExecutor executor;
+    private final long maxQueueWaitNanos;
+    private final long maxWaitMillis;
+    private final BooleanSupplier shedCondition;
+    private final AtomicInteger asyncInFlight = new AtomicInteger();
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Creates a lane.
+     *
+     * @param name lane name used for thread names and metrics
+     * @param threads number of worker threads
+     * @param queueCapacity maximum number of queued evaluations
+     * @param maxQueueWaitMillis how long an evaluation may wait in the queue before it is rejected unrun
+     * @param maxExecutionMillis how long {@link #execute} waits for a running evaluation to finish
+     * @param shedCondition when true, new work is rejected immediately
+     */
+    public EvaluationLane(String name, int threads, int queueCapacity,
+                          long maxQueueWaitMillis, long maxExecutionMillis, BooleanSupplier shedCondition) {
+        this.name = name;
+        this.threads = threads;
+        this.maxQueueWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxQueueWaitMillis);
+        this.maxWaitMillis = maxQueueWaitMillis + maxExecutionMillis;
+        this.shedCondition = shedCondition;
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "lane-" + name + "-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Runs a task in this lane and waits for its result.
+     *
+     * @param task the evaluation to run; it should perform the outbound Talon.One calls
+     * @return the task's result
+     * @throws LaneRejectedException if the lane is saturated or shedding, or the task does not finish in time
+     */
+    public <T> T execute(Supplier<T> task) {
+        CompletableFuture<T> future = submit(task);
+        try {
+            return future.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            future.cancel(false);
+            rejected.increment();
+            throw new LaneRejectedException("Evaluation in lane '" + name + "' did not finish within " + maxWaitMillis + " ms");
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new LaneRejectedException("Interrupted waiting in lane '" + name + "'");
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    /**
+     * Queues a task in this lane without waiting for it.
+     *
+     * @param task the evaluation to run; it should perform the outbound Talon.One calls
+     * @return future completing with the task's result, or exceptionally with its failure
+     * @throws LaneRejectedException if the lane is saturated or shedding
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        if (shedCondition.getAsBoolean()) {
+            rejected.increment();
+            throw new LaneRejectedException("Lane '" + name + "' is shedding load");
+        }
+
+        long enqueued = System.nanoTime();
+        RequestTimings timings = RequestTimings.current();
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    future.complete(RequestTimings.callWith(timings, () -> runDequeued(task, enqueued)));
+                } catch (Throwable ex) {
+                    future.completeExceptionally(ex);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            rejected.increment();
+            throw new LaneRejectedException("Lane '" + name + "' queue is full");
+        }
+        return future;
+    }
+
+    /**
+     * Starts a non-blocking call in this lane if it has capacity, without queueing it.
+     *
+     * @param call starts the outbound Talon.One calls and returns their future
+     * @return the call's future
+     * @throws LaneRejectedException if the lane is at its concurrency limit or shedding
+     */
+    public <T> CompletableFuture<T> admit(Supplier<CompletableFuture<T>> call) {
+        if (shedCondition.getAsBoolean()) {
+            rejected.increment();
+            throw new LaneRejectedException("Lane '" + name + "' is shedding load");
+        }
+        if (asyncInFlight.incrementAndGet() + executor.getActiveCount() > threads) {
+            asyncInFlight.decrementAndGet();
+            rejected.increment();
+            throw new LaneRejectedException("Lane '" + name + "' is at its concurrency limit");
+        }
+        CompletableFuture<T> started;
+        try {
+            started = call.get();
+        } catch (Throwable ex) {
+            asyncInFlight.decrementAndGet();
+            throw ex;
+        }
+        return started.whenComplete((result, ex) -> {
+            asyncInFlight.decrementAndGet();
+            completed.increment();
+        });
+    }
+
+    private <T> T runDequeued(Supplier<T> task, long enqueued) {
+        long waited = System.nanoTime() - enqueued;
+        if (waited > maxQueueWaitNanos) {
+            rejected.increment();
+            throw new LaneRejectedException("Evaluation waited too long in lane '" + name + "'");
+        }
+        totalWaitNanos.add(waited);
+        maxWaitNanos.accumulate(waited);
+        RequestTimings.record("lane." + name + ".wait", enqueued, waited);
+        try {
+            return task.get();
+        } finally {
+            completed.increment();
+        }
+    }
+
+    /**
+     * Returns the current number of queued evaluations.
+     */
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * Returns a snapshot of this lane's metrics.
+     */
+    public LaneStats getStats() {
+        long done = completed.sum();
+        return LaneStats.builder()
+                .lane(name)
+                .activeThreads(executor.getActiveCount())
+                .asyncInFlight(asyncInFlight.get())
+                .queueDepth(getQueueDepth())
+                .completed(done)
+                .rejected(rejected.sum())
+                .avgWaitMillis(done == 0 ? 0 : totalWaitNanos.sum() / done / 1_000_000.0)
+                .maxWaitMillis(maxWaitNanos.get() / 1_000_000.0)
+                .build();
+    }
+
+    /**
+     * Stops accepting work and lets queued evaluations finish.
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Exception indicating that an evaluation was shed or rejected by a saturated lane.
+     */
+    public static class LaneRejectedException extends RuntimeException {
+        public LaneRejectedException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.app.service;
+
+import com.app.model.LaneStats;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Holds the checkout and preview evaluation lanes.
+ * <p>
+ * Checkouts (/orders) and cart previews (/rewards/evaluate, cart sessions, token refresh) run on
+ * separate bounded executors, whose thread counts cap each lane's concurrent Talon.One calls.
+ * Previews are shed first: they are
+ * rejected as soon as the checkout queue builds up past a threshold, leaving headroom for checkouts.
+ *
+ * <p>
+ * Optional properties in application.properties:
+ * <ul>
+ *     <li>rewards.lanes.checkout.threads / queue-capacity / max-queue-wait-ms</li>
+ *     <li>rewards.lanes.preview.threads / queue-capacity / max-queue-wait-ms</li>
+ *     <li>rewards.lanes.preview.shed-when-checkout-queue-above (default 10)</li>
+ *     <li>rewards.lanes.max-execution-ms - how long a caller waits for a running evaluation (default 15000)</li>
+ * </ul>
+ * </p>
+ */
+@Component
+public class EvaluationLanes {
+
+    private final EvaluationLane checkout;
+    private final EvaluationLane preview;
+
+    public EvaluationLanes(
+            @Value("${rewards.lanes.checkout.threads:32}") int checkoutThreads,
+            @Value("${rewards.lanes.checkout.queue-capacity:500}") int checkoutQueue,
+            @Value("${rewards.lanes.checkout.max-queue-wait-ms:5000}") long checkoutMaxQueueWait,
+            @Value("${rewards.lanes.preview.threads:16}") int previewThreads,
+            @Value("${rewards.lanes.preview.queue-capacity:100}") int previewQueue,
+            @Value("${rewards.lanes.preview.max-queue-wait-ms:250}") long previewMaxQueueWait,
+            @Value("${rewards.lanes.preview.shed-when-checkout-queue-above:10}") int shedThreshold,
+            @Value("${rewards.lanes.max-execution-ms:15000}") long maxExecution) {
+        this.checkout = new EvaluationLane("checkout", checkoutThreads, checkoutQueue,
+                checkoutMaxQueueWait, maxExecution, () -> false);
+        this.preview = new EvaluationLane("preview", previewThreads, previewQueue,
+                previewMaxQueueWait, maxExecution, () -> checkout.getQueueDepth() > shedThreshold);
+    }
+
+    public EvaluationLane checkout() {
+        return checkout;
+    }
+
+    public EvaluationLane preview() {
+        return preview;
+    }
+
+    /**
+     * Returns metrics for all lanes.
+     */
+    public List<LaneStats> getStats() {
+        return List.of(checkout.getStats(), preview.getStats());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        checkout.shutdown();
+        preview.shutdown();
+    }
+}
@@ -0,0 +1,187 @@
+package com.app.service;
+
+import com.app.model.CartRequest;
+import com.app.model.RewardsResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Issues and resolves evaluation tokens.
+ * <p>
+ * A token binds a Talon.One evaluation result to the fingerprint of the cart it was computed for
+ * and a short expiry, so checkout can reuse a warm result instead of re-evaluating an unchanged cart.
+ * A token is single-use: checkout claims it by removing it atomically, then commits the claim once
+ * the order is saved or releases it if the order fails. Claiming also marks the cart fingerprint as
+ * consumed for one TTL, so other tokens issued for the same cart cannot be redeemed by a second order.
+ */
+@Service
+public class EvaluationTokenService {
+
+    private final Duration ttl;
+    private final Duration refreshBefore;
+    private final int refreshBatchSize;
+    private final Map<String, IssuedEvaluation> evaluations = new ConcurrentHashMap<>();
+    private final Map<String, Claim> claims = new ConcurrentHashMap<>();
+    private final Map<String, Instant> consumedFingerprints = new ConcurrentHashMap<>();
+
+    public EvaluationTokenService(
+            @Value("${rewards.evaluation-token.ttl:PT2M}") Duration ttl,
+            @Value("${rewards.evaluation-token.refresh-before:PT15S}") Duration refreshBefore,
+            @Value("${rewards.evaluation-token.refresh-batch-size:50}") int refreshBatchSize) {
+        this.ttl = ttl;
+        this.refreshBefore = refreshBefore;
+        this.refreshBatchSize = refreshBatchSize;
+    }
+
+    /**
+     * Issues a token for an evaluation result and returns the result annotated with it.
+     *
+     * @param req The cart that was evaluated.
+     * @param response The evaluation result.
+     * @return A copy of the response carrying the evaluation token and its expiry.
+     */
+    public RewardsResponse issue(CartRequest req, RewardsResponse response) {
+        String token = UUID.randomUUID().toString();
+        Instant expiresAt = Instant.now().plus(ttl);
+        RewardsResponse tokenized = response.toBuilder()
+                .evaluationToken(token)
+                .evaluationExpiresAt(expiresAt)
+                .build();
+        evaluations.put(token, new IssuedEvaluation(req, CartFingerprint.of(req.getUserId(), req.getItems()), tokenized, expiresAt));
+        return tokenized;
+    }
+
+    /**
+     * Claims a token presented at checkout. Only one caller can claim a given token, and only one
+     * token per cart fingerprint can be claimed within a TTL.
+     * The claim must be followed by {@link #commit} or {@link #release}.
+     *
+     * @param token The evaluation token, may be null.
+     * @param req The cart being checked out.
+     * @return The cached evaluation if the token is valid, unexpired, unclaimed and the cart is unchanged; empty otherwise.
+     */
+    public Optional<RewardsResponse> claim(String token, CartRequest req) {
+        if (token == null) {
+            return Optional.empty();
+        }
+        Instant now = Instant.now();
+        IssuedEvaluation issued = evaluations.get(token);
+        if (issued == null || issued.expiresAt.isBefore(now)) {
+            return Optional.empty();
+        }
+        if (!issued.fingerprint.equals(CartFingerprint.of(req.getUserId(), req.getItems()))) {
+            return Optional.empty();
+        }
+        if (!evaluations.remove(token, issued)) {
+            return Optional.empty(); // Claimed or refreshed concurrently
+        }
+        Instant consumedUntil = now.plus(ttl);
+        Instant marked = consumedFingerprints.compute(issued.fingerprint,
+                (fingerprint, existing) -> existing != null && existing.isAfter(now) ? existing : consumedUntil);
+        if (marked != consumedUntil) {
+            return Optional.empty(); // Another token for this cart was already redeemed
+        }
+        claims.put(token, new Claim(issued, consumedUntil));
+        return Optional.of(issued.response);
+    }
+
+    /**
+     * Finalizes a claim once the order using it has been saved. Does nothing if the token was not claimed.
+     *
+     * @param token The claimed token, may be null.
+     */
+    public void commit(String token) {
+        if (token != null) {
+            claims.remove(token);
+        }
+    }
+
+    /**
+     * Returns a claimed token to circulation because the order using it was not saved.
+     * Does nothing if the token was not claimed.
+     *
+     * @param token The claimed token, may be null.
+     */
+    public void release(String token) {
+        if (token == null) {
+            return;
+        }
+        Claim claim = claims.remove(token);
+        if (claim != null) {
+            consumedFingerprints.remove(claim.issued().fingerprint, claim.consumedUntil());
+            evaluations.putIfAbsent(token, claim.issued());
+        }
+    }
+
+    /**
+     * Returns up to refresh-batch-size carts whose tokens are about to expire and have not been
+     * refreshed yet. Each token is refreshed at most once. Expired tokens, stale claims and
+     * consumed fingerprints are purged as a side effect.
+     *
+     * @return Map of token to the cart that should be re-evaluated.
+     */
+    public Map<String, CartRequest> dueForRefresh() {
+        Instant now = Instant.now();
+        Instant threshold = now.plus(refreshBefore);
+        Map<String, CartRequest> due = new LinkedHashMap<>();
+        List<String> expired = new ArrayList<>();
+        evaluations.forEach((token, issued) -> {
+            if (issued.expiresAt.isBefore(now)) {
+                expired.add(token);
+            } else if (!issued.refreshed && due.size() < refreshBatchSize && issued.expiresAt.isBefore(threshold)) {
+                due.put(token, issued.cart);
+            }
+        });
+        expired.forEach(evaluations::remove);
+        claims.values().removeIf(claim -> claim.consumedUntil().isBefore(now));
+        consumedFingerprints.values().removeIf(until -> until.isBefore(now));
+        return due;
+    }
+
+    /**
+     * Replaces the result behind a token with a fresh evaluation and extends its expiry.
+     *
+     * @param token The token being refreshed.
+     * @param response The fresh evaluation result.
+     */
+    public void refresh(String token, RewardsResponse response) {
+        evaluations.computeIfPresent(token, (t, issued) -> {
+            Instant expiresAt = Instant.now().plus(ttl);
+            RewardsResponse tokenized = response.toBuilder()
+                    .evaluationToken(t)
+                    .evaluationExpiresAt(expiresAt)
+                    .build();
+            IssuedEvaluation refreshed = new IssuedEvaluation(issued.cart, issued.fingerprint, tokenized, expiresAt);
+            refreshed.refreshed = true;
+            return refreshed;
+        });
+    }
+
+    private static final class IssuedEvaluation {
+        private final CartRequest cart;
+        private final String fingerprint;
+        private final RewardsResponse response;
+        private final Instant expiresAt;
+        private volatile boolean refreshed;
+
+        private IssuedEvaluation(CartRequest cart, String fingerprint, RewardsResponse response, Instant expiresAt) {
+            this.cart = cart;
+            this.fingerprint = fingerprint;
+            this.response = response;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private record Claim(IssuedEvaluation issued, Instant consumedUntil) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.app.service;
+
+import com.app.talonone.LoyaltyBalanceClient;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stub balance client that reports the local ledger's balances, so reconciliation finds no drift.
+ * For tests and local environments without Talon.One access; enable with
+ * {@code loyalty.balance-client=local}.
+ */
+@Component
+@ConditionalOnProperty(name = "loyalty.balance-client", havingValue = "local")
+public class LocalLoyaltyBalanceClient implements LoyaltyBalanceClient {
+
+    private final LoyaltyBalanceIndex balanceIndex;
+
+    public LocalLoyaltyBalanceClient(LoyaltyBalanceIndex balanceIndex) {
+        this.balanceIndex = balanceIndex;
+    }
+
+    @Override
+    public long getLoyaltyBalance(String userId) {
+        return balanceIndex.balance(Long.valueOf(userId));
+    }
+}
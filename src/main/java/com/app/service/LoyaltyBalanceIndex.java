@@ -0,0 +1,59 @@
+package com.app.service;
+
+import com.app.repository.LoyaltyLedgerRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory per-user loyalty balance index, derived from the ledger.
+ * Rebuilt from the ledger during startup, before the web server accepts requests, and updated
+ * as new entries are appended.
+ */
+@Component
+@RequiredArgsConstructor
+public class LoyaltyBalanceIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoyaltyBalanceIndex.class);
+
+    private final LoyaltyLedgerRepository ledgerRepository;
+    private final Map<Long, LongAdder> balances = new ConcurrentHashMap<>();
+
+    /**
+     * Loads balances from the ledger when the bean is initialized.
+     */
+    @PostConstruct
+    public void load() {
+        for (Object[] row : ledgerRepository.sumPointsByUser()) {
+            apply((Long) row[0], ((Number) row[1]).longValue());
+        }
+        logger.info("Loaded loyalty balances for {} users", balances.size());
+    }
+
+    /**
+     * Applies a point movement to a user's balance.
+     *
+     * @param userId The ID of the user.
+     * @param points The signed number of points.
+     */
+    public void apply(Long userId, long points) {
+        balances.computeIfAbsent(userId, id -> new LongAdder()).add(points);
+    }
+
+    /**
+     * Returns the current balance for a user, zero if the user has no ledger entries.
+     *
+     * @param userId The ID of the user.
+     * @return The balance.
+     */
+    public long balance(Long userId) {
+        LongAdder adder = balances.get(userId);
+        return adder == null ? 0 : adder.sum();
+    }
+}
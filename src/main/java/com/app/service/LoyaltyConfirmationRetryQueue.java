@@ -0,0 +1,92 @@
+package com.app.service;
+
+import com.app.model.Money;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Retries loyalty confirmations that failed after their order was already saved.
+ * <p>
+ * Once an order is committed its checkout must succeed, so a confirmation rejected by a saturated
+ * checkout lane, or failed by Talon.One, is queued here and retried in the background instead of
+ * failing the request (a client retry would place the order twice). A confirmation that still fails
+ * after max-attempts, or that does not fit in the queue, is dropped with an error log; the loyalty
+ * reconciliation job then corrects the local balance.
+ *
+ * <p>
+ * Optional properties in application.properties:
+ * <ul>
+ *     <li>loyalty.confirmation.retry-interval-ms (default 30000)</li>
+ *     <li>loyalty.confirmation.max-attempts (default 10)</li>
+ *     <li>loyalty.confirmation.max-pending (default 10000)</li>
+ * </ul>
+ * </p>
+ */
+@Component
+public class LoyaltyConfirmationRetryQueue {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoyaltyConfirmationRetryQueue.class);
+
+    private final RewardsService rewardsService;
+    private final int maxAttempts;
+    private final BlockingQueue<PendingConfirmation> pending;
+
+    public LoyaltyConfirmationRetryQueue(
+            RewardsService rewardsService,
+            @Value("${loyalty.confirmation.max-attempts:10}") int maxAttempts,
+            @Value("${loyalty.confirmation.max-pending:10000}") int maxPending) {
+        this.rewardsService = rewardsService;
+        this.maxAttempts = maxAttempts;
+        this.pending = new LinkedBlockingQueue<>(maxPending);
+    }
+
+    /**
+     * Queues a confirmation whose first attempt failed.
+     *
+     * @param userId The ID of the user.
+     * @param total The total amount of the order.
+     */
+    public void enqueue(Long userId, Money total) {
+        offer(new PendingConfirmation(userId, total, 1));
+    }
+
+    /**
+     * Retries every confirmation queued before this run started.
+     */
+    @Scheduled(fixedDelayString = "${loyalty.confirmation.retry-interval-ms:30000}")
+    public void retryPending() {
+        int due = pending.size();
+        for (int i = 0; i < due; i++) {
+            PendingConfirmation confirmation = pending.poll();
+            if (confirmation == null) {
+                return;
+            }
+            try {
+                rewardsService.confirmLoyalty(confirmation.userId(), confirmation.total());
+            } catch (RuntimeException ex) {
+                if (confirmation.attempts() + 1 >= maxAttempts) {
+                    logger.error("Giving up confirming loyalty for userId={}, amount={} after {} attempts: {}",
+                            confirmation.userId(), confirmation.total(), maxAttempts, ex.getMessage());
+                } else {
+                    offer(new PendingConfirmation(confirmation.userId(), confirmation.total(), confirmation.attempts() + 1));
+                }
+            }
+        }
+    }
+
+    private void offer(PendingConfirmation confirmation) {
+        if (!pending.offer(confirmation)) {
+            logger.error("Loyalty confirmation queue full, dropping userId={}, amount={}",
+                    confirmation.userId(), confirmation.total());
+        }
+    }
+
+    private record PendingConfirmation(Long userId, Money total, int attempts) {
+    }
+}
@@ -0,0 +1,72 @@
+package com.app.service;
+
+import com.app.model.LoyaltyLedgerEntry;
+import com.app.model.RewardsResponse;
+import com.app.repository.LoyaltyLedgerRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Service layer for the local loyalty ledger.
+ * Appends point movements to the ledger and keeps the in-memory balance index in step.
+ */
+@Service
+@RequiredArgsConstructor
+public class LoyaltyLedgerService {
+
+    private final LoyaltyLedgerRepository ledgerRepository;
+    private final LoyaltyBalanceIndex balanceIndex;
+
+    /**
+     * Records the points used and earned by a confirmed order.
+     * 
+     * @param userId The ID of the user.
+     * @param orderId The ID of the order.
+     * @param rewards The evaluation the order was placed with.
+     */
+    public void recordOrder(Long userId, Long orderId, RewardsResponse rewards) {
+        Instant now = Instant.now();
+        List<LoyaltyLedgerEntry> entries = new ArrayList<>(2);
+        if (rewards.getLoyaltyPointsUsed() != 0) {
+            entries.add(new LoyaltyLedgerEntry(null, userId, orderId, -rewards.getLoyaltyPointsUsed(), "USED", now));
+        }
+        if (rewards.getLoyaltyPointsEarned() != 0) {
+            entries.add(new LoyaltyLedgerEntry(null, userId, orderId, rewards.getLoyaltyPointsEarned(), "EARNED", now));
+        }
+        append(entries);
+    }
+
+    /**
+     * Records a correcting entry so the local balance matches the authoritative one.
+     * 
+     * @param userId The ID of the user.
+     * @param adjustment The signed difference between the authoritative and local balance.
+     */
+    public void recordReconciliation(Long userId, long adjustment) {
+        append(List.of(new LoyaltyLedgerEntry(null, userId, null, adjustment, "RECONCILIATION", Instant.now())));
+    }
+
+    /**
+     * Returns a user's loyalty balance from the in-memory index.
+     * 
+     * @param userId The ID of the user.
+     * @return The current balance.
+     */
+    public long getBalance(Long userId) {
+        return balanceIndex.balance(userId);
+    }
+
+    private void append(List<LoyaltyLedgerEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        ledgerRepository.saveAll(entries);
+        for (LoyaltyLedgerEntry entry : entries) {
+            balanceIndex.apply(entry.getUserId(), entry.getPoints());
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.app.service;
+
+import com.app.repository.UserRepository;
+import com.app.talonone.LoyaltyBalanceClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Periodically compares local loyalty balances with Talon.One and records corrections for any drift.
+ * <p>
+ * Every user is checked, including users with no local ledger entries yet. A balance is only
+ * compared if the local value did not move while the remote one was read, and a drift is only
+ * corrected if the same drift is seen again when the user is re-checked at the end of the run,
+ * so an order confirmed at Talon.One but not yet written to the local ledger is not "corrected".
+ * Disable with loyalty.reconciliation.enabled=false.
+ *
+ * <p>
+ * Optional properties in application.properties:
+ * <ul>
+ *     <li>loyalty.reconciliation.interval-ms (default 3600000)</li>
+ *     <li>loyalty.reconciliation.page-size (default 500)</li>
+ * </ul>
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "loyalty.reconciliation.enabled", havingValue = "true", matchIfMissing = true)
+public class LoyaltyReconciliationJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoyaltyReconciliationJob.class);
+
+    private final LoyaltyBalanceClient loyaltyBalanceClient;
+    private final LoyaltyBalanceIndex balanceIndex;
+    private final LoyaltyLedgerService ledgerService;
+    private final UserRepository userRepository;
+    private final int pageSize;
+
+    public LoyaltyReconciliationJob(
+            LoyaltyBalanceClient loyaltyBalanceClient,
+            LoyaltyBalanceIndex balanceIndex,
+            LoyaltyLedgerService ledgerService,
+            UserRepository userRepository,
+            @Value("${loyalty.reconciliation.page-size:500}") int pageSize) {
+        this.loyaltyBalanceClient = loyaltyBalanceClient;
+        this.balanceIndex = balanceIndex;
+        this.ledgerService = ledgerService;
+        this.userRepository = userRepository;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Reconciles every user against the authoritative balance.
+     */
+    @Scheduled(fixedDelayString = "${loyalty.reconciliation.interval-ms:3600000}")
+    public void reconcile() {
+        int checked = 0;
+        Map<Long, Long> suspected = new LinkedHashMap<>();
+        Long afterId = Long.MIN_VALUE;
+        List<Long> page;
+        do {
+            page = userRepository.findIdsAfter(afterId, PageRequest.of(0, pageSize));
+            for (Long userId : page) {
+                Long drift = drift(userId);
+                if (drift != null) {
+                    checked++;
+                    if (drift != 0) {
+                        suspected.put(userId, drift);
+                    }
+                }
+            }
+            if (!page.isEmpty()) {
+                afterId = page.get(page.size() - 1);
+            }
+        } while (page.size() == pageSize);
+
+        int corrected = 0;
+        for (Map.Entry<Long, Long> entry : suspected.entrySet()) {
+            Long userId = entry.getKey();
+            Long drift = drift(userId);
+            if (drift == null || !drift.equals(entry.getValue())) {
+                continue; // Still settling; looked at again on the next run
+            }
+            logger.warn("Loyalty balance drift for userId={}: drift={}", userId, drift);
+            ledgerService.recordReconciliation(userId, drift);
+            corrected++;
+        }
+        logger.info("Loyalty reconciliation checked {} users, corrected {}", checked, corrected);
+    }
+
+    /**
+     * Returns remote minus local balance, or null if it could not be read consistently.
+     */
+    private Long drift(Long userId) {
+        try {
+            long before = balanceIndex.balance(userId);
+            long remote = loyaltyBalanceClient.getLoyaltyBalance(String.valueOf(userId));
+            long after = balanceIndex.balance(userId);
+            if (before != after) {
+                return null; // A local movement raced the remote read
+            }
+            return remote - after;
+        } catch (Exception ex) {
+            logger.warn("Failed to reconcile loyalty balance for userId={}: {}", userId, ex.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.app.service;
+
+import com.app.archive.OrderArchiveStore;
+import com.app.datasource.DataSourceRouting;
+import com.app.datasource.ReadYourWritesGuard;
+import com.app.model.Money;
+import com.app.model.Order;
+import com.app.model.OrderSummary;
+import com.app.repository.OrderRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Service layer for reading orders across the hot (Postgres) and cold (archive) tiers.
+ * Callers see a single view; the database copy wins if an order briefly exists in both.
+ * Reads run in read-only transactions and may be served by the replica.
+ */
+@Service
+public class OrderHistoryService {
+
+    private final OrderRepository orderRepository;
+    private final OrderArchiveStore archiveStore;
+    private final ReadYourWritesGuard readYourWritesGuard;
+    private final CatalogService catalogService;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public OrderHistoryService(
+            OrderRepository orderRepository,
+            OrderArchiveStore archiveStore,
+            ReadYourWritesGuard readYourWritesGuard,
+            CatalogService catalogService,
+            PlatformTransactionManager transactionManager) {
+        this.orderRepository = orderRepository;
+        this.archiveStore = archiveStore;
+        this.readYourWritesGuard = readYourWritesGuard;
+        this.catalogService = catalogService;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Finds an order by ID in either tier.
+     * The replica is tried first; on a miss the archive is checked, and finally the primary,
+     * so an order placed moments ago is found even while the replica lags. Each database read
+     * runs in its own transaction, since routing is fixed at a transaction's first statement.
+     * 
+     * @param orderId The ID of the order.
+     * @return The order, or empty if it exists in neither tier.
+     */
+    public Optional<OrderSummary> findOrder(Long orderId) {
+        return readOrder(orderId)
+                .or(() -> archiveStore.findOrder(orderId))
+                .or(() -> DataSourceRouting.onPrimary(() -> readOrder(orderId)));
+    }
+
+    /**
+     * Returns a user's full order history from both tiers, newest first.
+     * 
+     * @param userId The ID of the user.
+     * @return The user's orders.
+     */
+    @Transactional(readOnly = true)
+    public List<OrderSummary> getHistory(Long userId) {
+        Map<Long, OrderSummary> byId = new LinkedHashMap<>();
+        for (OrderSummary archived : archiveStore.ordersForUser(userId)) {
+            byId.put(archived.getId(), archived);
+        }
+        readYourWritesGuard.read(userId, () -> orderRepository.findWithItemsByUserId(userId))
+                .forEach(order -> byId.put(order.getId(), toSummary(order)));
+        return byId.values().stream()
+                .sorted(Comparator.comparing(OrderSummary::getId).reversed())
+                .toList();
+    }
+
+    /**
+     * Returns total spend per user across archived orders.
+     */
+    public Map<Long, Money> getArchivedSpendPerUser() {
+        return archiveStore.spendPerUser();
+    }
+
+    /**
+     * Returns total quantity sold per SKU across archived orders.
+     */
+    public Map<String, Long> getArchivedSkuQuantities() {
+        return archiveStore.skuQuantities();
+    }
+
+    private Optional<OrderSummary> readOrder(Long orderId) {
+        return readOnlyTransaction.execute(status -> orderRepository.findWithItemsById(orderId).map(this::toSummary));
+    }
+
+    private OrderSummary toSummary(Order order) {
+        OrderSummary summary = OrderSummary.fromOrder(order);
+        catalogService.describeItems(summary.getItems());
+        return summary;
+    }
+}
@@ -4,11 +4,16 @@ import com.app.model.Order;
 import com.app.model.User;
 import com.app.model.OrderRequest;
 import com.app.model.CartRequest;
+import com.app.model.Money;
 import com.app.model.RewardsResponse;
 import com.app.repository.OrderRepository;
+import com.app.tracing.RequestTimings;
 lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
 import java.util.Optional;
 
 /**
@@ -19,9 +24,15 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class OrderService {
 
+    private static final Logger logger = LoggerFactory.getLogger(OrderService.class);
+
     private final UserService userService;
     private final RewardsService rewardsService;
     private final OrderRepository orderRepository;
+    private final LoyaltyLedgerService loyaltyLedgerService;
+    private final CatalogService catalogService;
+    private final EvaluationTokenService evaluationTokenService;
+    private final LoyaltyConfirmationRetryQueue loyaltyConfirmationRetryQueue;
 
     /**
      * Places a new order, applies discounts, updates user stats, and confirms loyalty usage.
@@ -32,39 +43,53 @@ public class OrderService {
      */
     public Order placeOrder(OrderRequest req) {
         // Retrieve user
-        Optional<User> userOpt = userService.getUser(req.getUserId());
+        Optional<User> userOpt = RequestTimings.time("db.findUser", () -> userService.getUser(req.getUserId()));
         if (userOpt.isEmpty()) {
             throw new IllegalArgumentException("User not found for ID: " + req.getUserId());
         }
         User user = userOpt.get();
 
-        // Evaluate discounts and rewards
+        // Price the cart from the catalog; client-supplied names and prices are ignored
+        Money originalTotal = catalogService.priceItems(req.getItems());
+
+        // Evaluate discounts and rewards, reusing a warm evaluation if the cart is unchanged
         CartRequest cartRequest = new CartRequest(req.getUserId(), req.getItems());
-        RewardsResponse rewardsResponse = rewardsService.evaluateCart(cartRequest);
+        RewardsResponse rewardsResponse = rewardsService.evaluateForCheckout(
+                cartRequest, req.getEvaluationToken(), originalTotal);
 
         // Calculate final total after applying discounts
-        double discount = rewardsResponse.getDiscountAmount();
-        double originalTotal = req.getItems().stream().mapToDouble(item -> item.getPrice() * item.getQuantity()).sum();
-        double finalTotal = Math.max(0, originalTotal - discount);
+        Money discount = Money.orZero(rewardsResponse.getDiscountAmount());
+        Money finalTotal = originalTotal.minus(discount).atLeastZero();
 
         // Create Order entity
         Order order = new Order();
         order.setUser(user);
         order.setItems(req.getItems());
+        order.getItems().forEach(item -> item.setOrder(order));
         order.setTotalAmount(finalTotal);
         order.setDiscountApplied(discount);
         order.setStatus("PLACED");
+        order.setCreatedAt(Instant.now());
 
-        // Save order
-        Order savedOrder = orderRepository.save(order);
+        // Save order; a reused evaluation token is only consumed once the order is saved
+        Order savedOrder = saveOrderRedeemingToken(order, req.getEvaluationToken());
 
         // Update user statistics
         user.setTotalOrders(user.getTotalOrders() + 1);
-        user.setTotalSpent(user.getTotalSpent() + finalTotal);
-        userService.save(user);
+        user.setTotalSpent(Money.orZero(user.getTotalSpent()).plus(finalTotal));
+        RequestTimings.run("db.saveUser", () -> userService.save(user));
+
+        // Confirm loyalty point usage; the order is already saved, so a failure is retried later
+        try {
+            rewardsService.confirmLoyalty(user.getId(), finalTotal);
+        } catch (RuntimeException ex) {
+            logger.warn("Loyalty confirmation for order {} failed, queued for retry: {}", savedOrder.getId(), ex.getMessage());
+            loyaltyConfirmationRetryQueue.enqueue(user.getId(), finalTotal);
+        }
 
-        // Confirm loyalty point usage if applicable
-        rewardsService.confirmLoyalty(user.getId(), finalTotal);
+        // Mirror the confirmed point movements into the local loyalty ledger
+        RequestTimings.run("db.loyaltyLedger",
+                () -> loyaltyLedgerService.recordOrder(user.getId(), savedOrder.getId(), rewardsResponse));
 
         return savedOrder;
     }
@@ -78,4 +103,16 @@ public class OrderService {
     public Order saveOrder(OrderRequest req) {
         return placeOrder(req);
     }
+
+    private Order saveOrderRedeemingToken(Order order, String evaluationToken) {
+        Order savedOrder;
+        try {
+            savedOrder = RequestTimings.time("db.saveOrder", () -> orderRepository.save(order));
+        } catch (RuntimeException ex) {
+            evaluationTokenService.release(evaluationToken);
+            throw ex;
+        }
+        evaluationTokenService.commit(evaluationToken);
+        return savedOrder;
+    }
 }
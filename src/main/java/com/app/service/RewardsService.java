@@ -1,53 +1,163 @@
 package com.app.service;
 
 import com.app.model.CartRequest;
+import com.app.model.Money;
+import com.app.model.ProfileDTO;
 import com.app.model.RewardsResponse;
+import com.app.model.SessionDTO;
+import com.app.talonone.TalonOneAsyncClient;
 import com.app.talonone.TalonOneClient;
+import com.app.tracing.RequestTimings;
 lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Service layer for handling rewards and discount logic.
  * Integrates with Talon.One API for evaluating and confirming rewards.
+ * Preview evaluations and checkout calls run in separate {@link EvaluationLanes}, and concurrent
+ * identical preview evaluations are coalesced into a single Talon.One call. Carts are always priced
+ * from the catalog before evaluation.
  */
 @Service
 @RequiredArgsConstructor
 public class RewardsService {
 
+    private static final Logger logger = LoggerFactory.getLogger(RewardsService.class);
+
     private final TalonOneClient talonOneClient;
+    private final TalonOneAsyncClient talonOneAsyncClient;
+    private final EvaluationTokenService evaluationTokenService;
+    private final EvaluationLanes evaluationLanes;
+    private final EvaluationCoalescer evaluationCoalescer;
+    private final CatalogService catalogService;
 
     /**
      * Evaluates rewards and discounts for the given cart by interacting with Talon.One.
+     * The result carries an evaluation token that can be presented at checkout.
+     * Runs in the preview lane, which is shed first under pressure.
      * 
      * @param req The cart request containing user and item details.
      * @return RewardsResponse containing discount and reward information.
+     * @throws EvaluationLane.LaneRejectedException if the preview lane is saturated or shedding.
+     * @throws IllegalArgumentException if the cart contains an unknown SKU.
      */
     public RewardsResponse evaluateCart(CartRequest req) {
-        // Update user profile in Talon.One
-        talonOneClient.updateProfile(req.getUserId());
+        Money cartTotal = catalogService.priceItems(req.getItems());
+        RewardsResponse response = evaluationCoalescer.execute(
+                "preview:" + CartFingerprint.of(req.getUserId(), req.getItems()),
+                () -> evaluationLanes.preview().execute(() -> evaluateWithTalonOne(req, cartTotal)));
+        return evaluationTokenService.issue(req, response);
+    }
 
-        // Evaluate session (cart) in Talon.One
-        return talonOneClient.evaluateSession(req);
+    /**
+     * Non-blocking variant of {@link #evaluateCart}: the Talon.One calls are made with the
+     * non-blocking client and admitted against the preview lane's limits without holding one of
+     * its threads, so no thread waits for the round trip.
+     *
+     * @param req The cart request containing user and item details.
+     * @return future completing with the RewardsResponse, or exceptionally with the evaluation failure.
+     * @throws EvaluationLane.LaneRejectedException if the preview lane is saturated or shedding.
+     * @throws IllegalArgumentException if the cart contains an unknown SKU.
+     */
+    public CompletableFuture<RewardsResponse> evaluateCartAsync(CartRequest req) {
+        Money cartTotal = catalogService.priceItems(req.getItems());
+        return evaluationCoalescer.executeAsync(
+                        "preview:" + CartFingerprint.of(req.getUserId(), req.getItems()),
+                        () -> evaluationLanes.preview().admit(() -> evaluateWithTalonOneAsync(req, cartTotal)))
+                .thenApply(response -> evaluationTokenService.issue(req, response));
     }
 
     /**
-     * Confirms the usage of loyalty points for a user and order total.
+     * Evaluates rewards for checkout, reusing a warm evaluation when a valid token is presented
+     * for an unchanged cart. Runs in the checkout lane. A reused token is claimed; the caller must
+     * commit or release it through {@link EvaluationTokenService}.
      * 
-     * @param userId The ID of the user.
-     * @param total The total amount of the order.
+     * @param req The cart request being checked out.
+     * @param evaluationToken The token from a prior evaluation, may be null.
+     * @return RewardsResponse with evaluated rewards.
+     * @throws IllegalArgumentException if the cart contains an unknown SKU.
      */
-    public void confirmLoyalty(Long userId, double total) {
-        talonOneClient.confirmLoyalty(userId, total);
+    public RewardsResponse evaluateForCheckout(CartRequest req, String evaluationToken) {
+        return evaluateForCheckout(req, evaluationToken, catalogService.priceItems(req.getItems()));
     }
 
     /**
-     * Evaluates rewards for an order request (for controller compatibility).
+     * Evaluates rewards for checkout of a cart whose items were already priced from the catalog.
      * 
-     * @param orderRequest The order request.
+     * @param req The cart request being checked out, with catalog-resolved items.
+     * @param evaluationToken The token from a prior evaluation, may be null.
+     * @param cartTotal The server-side cart total.
      * @return RewardsResponse with evaluated rewards.
      */
-    public RewardsResponse evaluateRewards(com.app.model.OrderRequest orderRequest) {
-        CartRequest cartRequest = new CartRequest(orderRequest.getUserId(), orderRequest.getItems());
-        return evaluateCart(cartRequest);
+    public RewardsResponse evaluateForCheckout(CartRequest req, String evaluationToken, Money cartTotal) {
+        // Never coalesced: each checkout redeems its own evaluation, so two concurrent checkouts
+        // of the same cart must not share one
+        return evaluationTokenService.claim(evaluationToken, req)
+                .orElseGet(() -> evaluationLanes.checkout().execute(() -> evaluateWithTalonOne(req, cartTotal)));
+    }
+
+    /**
+     * Confirms the usage of loyalty points for a user and order total. Runs in the checkout lane.
+     * 
+     * @param userId The ID of the user.
+     * @param total The total amount of the order.
+     */
+    public void confirmLoyalty(Long userId, Money total) {
+        evaluationLanes.checkout().execute(() -> {
+            RequestTimings.run("talonone.confirmLoyalty", () -> talonOneClient.confirmLoyalty(userId, total));
+            return null;
+        });
+    }
+
+    /**
+     * Re-evaluates carts whose evaluation tokens are about to expire, so a checkout arriving
+     * shortly after still finds a warm result.
+     */
+    @Scheduled(fixedDelayString = "${rewards.evaluation-token.refresh-interval-ms:5000}")
+    public void refreshExpiringEvaluations() {
+        Map<String, CartRequest> due = evaluationTokenService.dueForRefresh();
+        due.forEach((token, req) -> {
+            try {
+                Money cartTotal = catalogService.priceItems(req.getItems());
+                evaluationTokenService.refresh(token,
+                        evaluationLanes.preview().execute(() -> evaluateWithTalonOne(req, cartTotal)));
+            } catch (Exception ex) {
+                logger.warn("Failed to refresh evaluation token for userId={}: {}", req.getUserId(), ex.getMessage());
+            }
+        });
+    }
+
+    private RewardsResponse evaluateWithTalonOne(CartRequest req, Money cartTotal) {
+        // Update user profile in Talon.One
+        RequestTimings.run("talonone.updateProfile", () -> talonOneClient.updateProfile(req.getUserId()));
+
+        // Evaluate session (cart) in Talon.One, with the server-side cart total
+        SessionDTO session = SessionDTO.builder()
+                .userId(String.valueOf(req.getUserId()))
+                .items(req.getItems())
+                .cartTotal(cartTotal)
+                .build();
+        return RequestTimings.time("talonone.evaluateSession", () -> talonOneClient.evaluateSession(session));
+    }
+
+    private CompletableFuture<RewardsResponse> evaluateWithTalonOneAsync(CartRequest req, Money cartTotal) {
+        String userId = String.valueOf(req.getUserId());
+        SessionDTO session = SessionDTO.builder()
+                .userId(userId)
+                .items(req.getItems())
+                .cartTotal(cartTotal)
+                .build();
+        // The second call starts on an HTTP client thread, so the request's timings are passed along
+        RequestTimings timings = RequestTimings.current();
+        return RequestTimings.timeAsync(timings, "talonone.updateProfile",
+                        () -> talonOneAsyncClient.updateProfileAsync(userId, ProfileDTO.builder().userId(userId).build()))
+                .thenCompose(updated -> RequestTimings.timeAsync(timings, "talonone.evaluateSession",
+                        () -> talonOneAsyncClient.evaluateSessionAsync(session)));
     }
 }
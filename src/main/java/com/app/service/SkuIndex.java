@@ -0,0 +1,177 @@
+package com.app.service;
+
+import com.app.model.Item;
+import com.app.model.Money;
+import com.app.model.Product;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Immutable in-memory snapshot of the product catalog.
+ * <p>
+ * Products are held in parallel primitive arrays sorted by product ID, so lookups by ID are a
+ * binary search over a {@code long[]} and cart totals are summed in minor units on a {@code long}.
+ * Items are given the index's shared immutable {@link Money} instances, so pricing a cart allocates
+ * only the final total. Client-supplied SKUs are resolved through an open-addressing {@code int[]}
+ * table keyed by SKU hash, holding array slots, so a lookup allocates nothing and boxes nothing.
+ * Products without a SKU or price are left out, so they are unknown SKUs rather than free.
+ */
+public final class SkuIndex {
+
+    static final SkuIndex EMPTY = new SkuIndex(List.of(), 0);
+
+    private final long version;
+    private final long[] ids;
+    private final String[] skus;
+    private final String[] names;
+    private final Money[] prices;
+    private final int[] slotTable; // slot + 1 per bucket, 0 when empty; length is a power of two
+    private final int slotMask;
+
+    SkuIndex(List<Product> products, long version) {
+        Product[] sorted = products.stream()
+                .filter(product -> product.getSku() != null && product.getPrice() != null)
+                .toArray(Product[]::new);
+        Arrays.sort(sorted, Comparator.comparingLong(Product::getId));
+        int n = sorted.length;
+        this.version = version;
+        this.ids = new long[n];
+        this.skus = new String[n];
+        this.names = new String[n];
+        this.prices = new Money[n];
+        this.slotTable = new int[Math.max(2, Integer.highestOneBit(Math.max(1, n) * 2 - 1) << 1)];
+        this.slotMask = slotTable.length - 1;
+        for (int i = 0; i < n; i++) {
+            ids[i] = sorted[i].getId();
+            skus[i] = sorted[i].getSku();
+            names[i] = sorted[i].getName();
+            prices[i] = sorted[i].getPrice();
+            slotTable[bucketOf(skus[i])] = i + 1; // A repeated SKU resolves to its last product
+        }
+    }
+
+    /**
+     * Returns the version of this snapshot; it increases with every reload.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * Returns the catalog price of a SKU.
+     *
+     * @throws IllegalArgumentException if the SKU is not in the catalog
+     */
+    public Money priceOf(String sku) {
+        return prices[slotOf(sku)];
+    }
+
+    /**
+     * Returns the catalog price of a SKU, or empty if the SKU is not (or no longer) in the catalog.
+     */
+    public Optional<Money> findPrice(String sku) {
+        int slot = findSlot(sku);
+        return slot < 0 ? Optional.empty() : Optional.of(prices[slot]);
+    }
+
+    /**
+     * Resolves cart items against the catalog and returns the cart total.
+     * Each item's product ID, name and price are overwritten with catalog values; client-supplied
+     * names and prices are never trusted.
+     *
+     * @param items the cart items, identified by SKU
+     * @return the server-side cart total
+     * @throws IllegalArgumentException if an item's SKU is not in the catalog or its quantity is below one
+     */
+    public Money priceItems(List<Item> items) {
+        for (int i = 0, n = items.size(); i < n; i++) {
+            Item item = items.get(i);
+            if (item.getQuantity() < 1) {
+                throw new IllegalArgumentException("Quantity for SKU " + item.getSku() + " must be at least 1");
+            }
+            int slot = slotOf(item.getSku());
+            item.setProductId(ids[slot]);
+            item.setName(names[slot]);
+            item.setPrice(prices[slot]);
+        }
+        return Money.ofMinor(Money.sumLineTotals(items));
+    }
+
+    /**
+     * Fills in the SKU and name of persisted order lines from their product IDs, which is all the
+     * lines store. A price recorded at order time is never overwritten, so history shows what was
+     * charged; only lines saved without one get the current catalog price. Lines whose product is
+     * no longer in the catalog are left as-is.
+     *
+     * @param items order lines carrying product IDs
+     */
+    public void describeItems(List<Item> items) {
+        for (Item item : items) {
+            if (item.getProductId() == null
+                    || (item.getSku() != null && item.getName() != null && item.getPrice() != null)) {
+                continue;
+            }
+            int slot = Arrays.binarySearch(ids, item.getProductId());
+            if (slot >= 0) {
+                if (item.getSku() == null) {
+                    item.setSku(skus[slot]);
+                }
+                if (item.getName() == null) {
+                    item.setName(names[slot]);
+                }
+                if (item.getPrice() == null) {
+                    item.setPrice(prices[slot]);
+                }
+            }
+        }
+    }
+
+    private int slotOf(String sku) {
+        int slot = findSlot(sku);
+        if (slot < 0) {
+            throw new IllegalArgumentException("Unknown SKU: " + sku);
+        }
+        return slot;
+    }
+
+    /**
+     * Returns the array slot of a SKU, or -1 if it is not in the index.
+     */
+    private int findSlot(String sku) {
+        if (sku == null) {
+            return -1;
+        }
+        int bucket = spread(sku.hashCode()) & slotMask;
+        int entry;
+        while ((entry = slotTable[bucket]) != 0) {
+            if (skus[entry - 1].equals(sku)) {
+                return entry - 1;
+            }
+            bucket = (bucket + 1) & slotMask;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the bucket holding a SKU, or the empty bucket where it belongs (linear probing).
+     */
+    private int bucketOf(String sku) {
+        int bucket = spread(sku.hashCode()) & slotMask;
+        int entry;
+        while ((entry = slotTable[bucket]) != 0 && !skus[entry - 1].equals(sku)) {
+            bucket = (bucket + 1) & slotMask;
+        }
+        return bucket;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -1,30 +1,50 @@
 package com.app.service;
 
+import com.app.datasource.DataSourceRouting;
+import com.app.datasource.ReadYourWritesGuard;
+import com.app.model.Money;
 import com.app.model.User;
 import com.app.repository.UserRepository;
 lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 /**
  * Service layer for user-related business logic.
  * Handles user retrieval and updates to user statistics.
+ * Users loaded to be modified and saved are always read from the primary: repository finders run in
+ * read-only transactions, which would otherwise be routed to a possibly stale replica.
  */
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
     private final UserRepository userRepository;
+    private final ReadYourWritesGuard readYourWritesGuard;
 
     /**
-     * Fetches a user by their unique ID.
+     * Fetches a user by their unique ID from the primary, so the result is safe to modify and save.
      * 
      * @param id The ID of the user.
      * @return An Optional containing the User if found, or empty if not found.
      */
     public Optional<User> getUser(Long id) {
-        return userRepository.findById(id);
+        return DataSourceRouting.onPrimary(() -> userRepository.findById(id));
+    }
+
+    /**
+     * Fetches a user for display in a read-only transaction, which may be served by the replica.
+     * Users who were written recently are read from the primary so they see their own changes.
+     * Do not use for read-modify-write; use {@link #getUser(Long)} instead.
+     * 
+     * @param id The ID of the user.
+     * @return An Optional containing the User if found, or empty if not found.
+     */
+    @Transactional(readOnly = true)
+    public Optional<User> findUserForRead(Long id) {
+        return readYourWritesGuard.read(id, () -> userRepository.findById(id));
     }
 
     /**
@@ -34,7 +54,9 @@ public class UserService {
      * @return The updated user entity.
      */
     public User save(User user) {
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        readYourWritesGuard.markWrite(saved.getId());
+        return saved;
     }
 
     /**
@@ -45,13 +67,14 @@ public class UserService {
      * @param totalSpent The new total spent amount.
      * @return true if the user was updated, false if not found.
      */
-    public boolean updateUserTotals(Long id, int totalOrders, double totalSpent) {
-        Optional<User> userOpt = userRepository.findById(id);
+    public boolean updateUserTotals(Long id, int totalOrders, Money totalSpent) {
+        Optional<User> userOpt = getUser(id);
         if (userOpt.isPresent()) {
             User user = userOpt.get();
             user.setTotalOrders(totalOrders);
             user.setTotalSpent(totalSpent);
             userRepository.save(user);
+            readYourWritesGuard.markWrite(id);
             return true;
         }
         return false;
@@ -64,12 +87,13 @@ public class UserService {
      * @param order The order that was placed.
      */
     public void updateUserAfterOrder(Long userId, com.app.model.Order order) {
-        Optional<User> userOpt = userRepository.findById(userId);
+        Optional<User> userOpt = getUser(userId);
         if (userOpt.isPresent()) {
             User user = userOpt.get();
             user.setTotalOrders(user.getTotalOrders() + 1);
-            user.setTotalSpent(user.getTotalSpent() + order.getTotalAmount());
+            user.setTotalSpent(Money.orZero(user.getTotalSpent()).plus(order.getTotalAmount()));
             userRepository.save(user);
+            readYourWritesGuard.markWrite(userId);
         }
     }
 }
@@ -0,0 +1,19 @@
+package com.app.talonone;
+
+/**
+ * Source of authoritative loyalty balances, used to reconcile the local ledger.
+ * <p>
+ * Exactly one implementation is registered, chosen by {@code loyalty.balance-client}:
+ * {@code talonone} (the default, {@link TalonOneLoyaltyBalanceClient}) or {@code local}, a stub
+ * that reports the local ledger's own balances for environments without Talon.One access.
+ */
+public interface LoyaltyBalanceClient {
+
+    /**
+     * Fetches the current loyalty point balance for a user.
+     *
+     * @param userId the unique identifier of the user
+     * @return the authoritative balance
+     */
+    long getLoyaltyBalance(String userId);
+}
@@ -0,0 +1,141 @@
+package com.app.talonone;
+
+import com.app.model.ProfileDTO;
+import com.app.model.RewardsResponse;
+import com.app.model.SessionDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Non-blocking client for the Talon.One Integration API calls made while previewing a cart.
+ * <p>
+ * Uses the JDK {@link HttpClient} with {@code sendAsync}, so no thread is held while a request is
+ * in flight; the returned futures complete on the client's own callback threads. Errors are
+ * reported as {@link TalonOneClient.TalonOneClientException}, exactly as by the blocking
+ * {@link TalonOneClient}. Calls made through this client bypass the RestTemplate interceptors,
+ * so they are not captured by traffic recording.
+ * <p>
+ * Configuration properties in application.properties:
+ * <ul>
+ *     <li>talonone.base-url - The base URL of the Talon.One Integration API</li>
+ *     <li>talonone.api-key - The API key for authenticating requests</li>
+ *     <li>talonone.connect-timeout-ms (default 2000)</li>
+ *     <li>talonone.read-timeout-ms (default 5000)</li>
+ * </ul>
+ */
+@Component
+public class TalonOneAsyncClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(TalonOneAsyncClient.class);
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+    private final String apiKey;
+    private final Duration readTimeout;
+
+    public TalonOneAsyncClient(
+            ObjectMapper objectMapper,
+            @Value("${talonone.base-url}") String baseUrl,
+            @Value("${talonone.api-key}") String apiKey,
+            @Value("${talonone.connect-timeout-ms:2000}") long connectTimeoutMillis,
+            @Value("${talonone.read-timeout-ms:5000}") long readTimeoutMillis) {
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl;
+        this.apiKey = apiKey;
+        this.readTimeout = Duration.ofMillis(readTimeoutMillis);
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .build();
+    }
+
+    /**
+     * Updates the customer profile in Talon.One without blocking.
+     *
+     * @param userId the unique identifier of the user
+     * @param dto the profile data to update
+     * @return future completing when Talon.One has accepted the update, or exceptionally with
+     *         a {@link TalonOneClient.TalonOneClientException}
+     */
+    public CompletableFuture<Void> updateProfileAsync(String userId, ProfileDTO dto) {
+        URI uri = UriComponentsBuilder.fromHttpUrl(baseUrl)
+                .path("/v1/profiles/{userId}")
+                .buildAndExpand(userId)
+                .toUri();
+        return send(HttpRequest.newBuilder(uri).PUT(jsonBody(dto)), "update profile", userId)
+                .thenApply(body -> {
+                    logger.info("Successfully updated profile for userId={}", userId);
+                    return null;
+                });
+    }
+
+    /**
+     * Evaluates a session in Talon.One without blocking.
+     *
+     * @param dto the session data to evaluate
+     * @return future completing with the rewards response, or exceptionally with a
+     *         {@link TalonOneClient.TalonOneClientException}
+     */
+    public CompletableFuture<RewardsResponse> evaluateSessionAsync(SessionDTO dto) {
+        URI uri = UriComponentsBuilder.fromHttpUrl(baseUrl)
+                .path("/v1/sessions")
+                .build()
+                .toUri();
+        return send(HttpRequest.newBuilder(uri).POST(jsonBody(dto)), "evaluate session", dto.getUserId())
+                .thenApply(body -> {
+                    logger.info("Successfully evaluated session for userId={}", dto.getUserId());
+                    try {
+                        return body.isEmpty() ? null : objectMapper.readValue(body, RewardsResponse.class);
+                    } catch (IOException ex) {
+                        throw new TalonOneClient.TalonOneClientException("Unreadable session evaluation response", ex);
+                    }
+                });
+    }
+
+    private CompletableFuture<String> send(HttpRequest.Builder request, String action, String userId) {
+        request.timeout(readTimeout)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey);
+        HttpRequest built = request.build();
+        logger.info("Talon.One API Request: {} {}", built.method(), built.uri());
+
+        return httpClient.sendAsync(built, HttpResponse.BodyHandlers.ofString())
+                .handle((response, ex) -> {
+                    if (ex != null) {
+                        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                        logger.error("Unexpected error trying to {} for userId={}", action, userId, cause);
+                        throw new TalonOneClient.TalonOneClientException("Unexpected error trying to " + action, cause);
+                    }
+                    if (response.statusCode() / 100 != 2) {
+                        logger.error("Failed to {} for userId={}: {}", action, userId, response.body());
+                        throw new TalonOneClient.TalonOneClientException(
+                                "Failed to " + action + ": " + response.body(), null);
+                    }
+                    return response.body();
+                });
+    }
+
+    private HttpRequest.BodyPublisher jsonBody(Object dto) {
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(dto));
+        } catch (JsonProcessingException ex) {
+            throw new TalonOneClient.TalonOneClientException("Failed to serialize Talon.One request", ex);
+        }
+    }
+}
@@ -8,10 +8,14 @@ import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import com.app.model.LoyaltyBalanceDTO;
+import com.app.model.Money;
 import com.app.model.ProfileDTO;
 import com.app.model.SessionDTO;
 import com.app.model.RewardsResponse;
 
+import java.util.Map;
+
 /**
  * TalonOneClient is a reusable, centralized client for interacting with Talon.One's Integration API.
  * <p>
@@ -29,7 +33,7 @@ import com.app.model.RewardsResponse;
  * <pre>
  *     talonOneClient.updateProfile("user123", profileDto);
  *     RewardsResponse rewards = talonOneClient.evaluateSession(sessionDto);
- *     talonOneClient.confirmLoyalty("user123", 100.0);
+ *     talonOneClient.confirmLoyalty("user123", Money.parse("100.00"));
  * </pre>
  *
  * @author Your Name
@@ -123,16 +127,15 @@ public class TalonOneClient {
      * @param totalAmount the total amount to confirm for loyalty
      * @throws TalonOneClientException if the request fails or Talon.One returns an error
      */
-    public void confirmLoyalty(String userId, double totalAmount) {
+    public void confirmLoyalty(String userId, Money totalAmount) {
         String url = UriComponentsBuilder.fromHttpUrl(baseUrl)
                 .path("/v1/loyalty/{userId}/confirm")
                 .buildAndExpand(userId)
                 .toUriString();
 
         HttpHeaders headers = buildHeaders();
-        // Assuming the API expects a JSON body with "totalAmount"
-        String body = String.format("{\"totalAmount\": %.2f}", totalAmount);
-        HttpEntity<String> entity = new HttpEntity<>(body, headers);
+        // Assuming the API expects a JSON body with "totalAmount"; Money serializes as a decimal number
+        HttpEntity<Map<String, Money>> entity = new HttpEntity<>(Map.of("totalAmount", totalAmount), headers);
 
         try {
             restTemplate.exchange(url, HttpMethod.POST, entity, Void.class);
@@ -146,6 +149,35 @@ public class TalonOneClient {
         }
     }
 
+    /**
+     * Fetches the current loyalty point balance for a user from Talon.One.
+     *
+     * @param userId the unique identifier of the user
+     * @return the balance reported by Talon.One
+     * @throws TalonOneClientException if the request fails or Talon.One returns an error
+     */
+    public long getLoyaltyBalance(String userId) {
+        String url = UriComponentsBuilder.fromHttpUrl(baseUrl)
+                .path("/v1/loyalty/{userId}/balance")
+                .buildAndExpand(userId)
+                .toUriString();
+
+        HttpEntity<Void> entity = new HttpEntity<>(buildHeaders());
+
+        try {
+            ResponseEntity<LoyaltyBalanceDTO> response = restTemplate.exchange(
+                    url, HttpMethod.GET, entity, LoyaltyBalanceDTO.class);
+            LoyaltyBalanceDTO body = response.getBody();
+            return body == null ? 0 : body.getBalance();
+        } catch (HttpStatusCodeException ex) {
+            logger.error("Failed to fetch loyalty balance for userId={}: {}", userId, ex.getResponseBodyAsString(), ex);
+            throw new TalonOneClientException("Failed to fetch loyalty balance: " + ex.getResponseBodyAsString(), ex);
+        } catch (Exception ex) {
+            logger.error("Unexpected error fetching loyalty balance for userId={}", userId, ex);
+            throw new TalonOneClientException("Unexpected error fetching loyalty balance", ex);
+        }
+    }
+
     /**
      * Builds HTTP headers including Content-Type and Authorization.
      *
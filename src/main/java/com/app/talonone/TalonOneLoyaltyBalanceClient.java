@@ -0,0 +1,24 @@
+package com.app.talonone;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reads authoritative loyalty balances from Talon.One through {@link TalonOneClient}.
+ * Active unless another balance client is selected with {@code loyalty.balance-client}.
+ */
+@Component
+@ConditionalOnProperty(name = "loyalty.balance-client", havingValue = "talonone", matchIfMissing = true)
+public class TalonOneLoyaltyBalanceClient implements LoyaltyBalanceClient {
+
+    private final TalonOneClient talonOneClient;
+
+    public TalonOneLoyaltyBalanceClient(TalonOneClient talonOneClient) {
+        this.talonOneClient = talonOneClient;
+    }
+
+    @Override
+    public long getLoyaltyBalance(String userId) {
+        return talonOneClient.getLoyaltyBalance(userId);
+    }
+}
@@ -0,0 +1,117 @@
+package com.app.talonone.replay;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.util.StreamUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.regex.Pattern;
+
+/**
+ * Interceptor that captures Talon.One traffic to a {@link TrafficRecordFile}.
+ * <p>
+ * Records the method, path, request body, response status, content type, response body and
+ * latency of each call. Headers are never recorded and credential-like query parameters are
+ * stripped, so captures are safe to share. Recording failures are logged and never affect the call.
+ */
+public class RecordingInterceptor implements ClientHttpRequestInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecordingInterceptor.class);
+
+    private static final Pattern SENSITIVE_QUERY_PARAM =
+            Pattern.compile("(?i)(^|&)(api[-_]?key|token|access[-_]?token|secret)=[^&]*");
+
+    private final TrafficRecordFile recordFile;
+
+    public RecordingInterceptor(TrafficRecordFile recordFile) {
+        this.recordFile = recordFile;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(
+            ClientHttpRequest request,
+            byte[] body,
+            ClientHttpRequestExecution execution) throws IOException {
+
+        long timestamp = System.currentTimeMillis();
+        long start = System.nanoTime();
+        ClientHttpResponse response = execution.execute(request, body);
+        byte[] responseBody = StreamUtils.copyToByteArray(response.getBody());
+        long latency = System.nanoTime() - start;
+
+        try {
+            recordFile.append(TrafficRecord.builder()
+                    .timestampMillis(timestamp)
+                    .latencyNanos(latency)
+                    .method(request.getMethod().name())
+                    .path(sanitize(request.getURI()))
+                    .requestBody(body)
+                    .status(response.getStatusCode().value())
+                    .contentType(response.getHeaders().getFirst(HttpHeaders.CONTENT_TYPE))
+                    .responseBody(responseBody)
+                    .build());
+        } catch (IOException ex) {
+            logger.warn("Failed to record Talon.One traffic: {}", ex.getMessage());
+        }
+
+        return new BufferedResponse(response, responseBody);
+    }
+
+    static String sanitize(URI uri) {
+        String path = uri.getRawPath();
+        String query = uri.getRawQuery();
+        if (query == null || query.isEmpty()) {
+            return path;
+        }
+        String cleaned = SENSITIVE_QUERY_PARAM.matcher(query).replaceAll("").replaceFirst("^&", "");
+        return cleaned.isEmpty() ? path : path + "?" + cleaned;
+    }
+
+    /**
+     * Response wrapper serving the already-consumed body from memory.
+     */
+    private static final class BufferedResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final byte[] body;
+
+        private BufferedResponse(ClientHttpResponse delegate, byte[] body) {
+            this.delegate = delegate;
+            this.body = body;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() {
+            return new ByteArrayInputStream(body);
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
+}
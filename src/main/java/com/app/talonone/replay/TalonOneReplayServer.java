@@ -0,0 +1,161 @@
+package com.app.talonone.replay;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Standalone HTTP server that replays a Talon.One recording made by {@link RecordingInterceptor}.
+ * <p>
+ * Requests are matched by method and path; when the exact path was never captured, numeric path
+ * segments are treated as wildcards (e.g. /v1/profiles/42 matches captures of /v1/profiles/7).
+ * Matching captures are served round-robin, each delayed by its recorded latency divided by the
+ * speed factor, so the original latency distribution is reproduced, optionally sped up or slowed down.
+ *
+ * <p>
+ * Usage:
+ * <pre>
+ *     java -cp app.jar com.app.talonone.replay.TalonOneReplayServer talonone-traffic.rec [port] [speed]
+ * </pre>
+ * Then start the application with talonone.base-url=http://localhost:{port}.
+ * </p>
+ */
+public class TalonOneReplayServer {
+
+    private static final Logger logger = LoggerFactory.getLogger(TalonOneReplayServer.class);
+
+    private static final Pattern NUMERIC_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+
+    private final Map<String, Captures> exact;
+    private final Map<String, Captures> templated;
+    private final double speed;
+
+    /**
+     * Builds a replay server over the given captures.
+     *
+     * @param records the recorded traffic
+     * @param speed latency divisor; 1.0 replays in real time, 2.0 twice as fast, 0.5 twice as slow
+     */
+    public TalonOneReplayServer(List<TrafficRecord> records, double speed) {
+        if (speed <= 0) {
+            throw new IllegalArgumentException("Speed must be positive: " + speed);
+        }
+        this.speed = speed;
+        this.exact = records.stream().collect(Collectors.groupingBy(
+                r -> r.getMethod() + " " + r.getPath(),
+                Collectors.collectingAndThen(Collectors.toList(), Captures::new)));
+        this.templated = records.stream().collect(Collectors.groupingBy(
+                r -> r.getMethod() + " " + template(r.getPath()),
+                Collectors.collectingAndThen(Collectors.toList(), Captures::new)));
+    }
+
+    /**
+     * Starts serving on the given port.
+     *
+     * @param port the port to listen on
+     * @return the running server
+     * @throws IOException if the port cannot be bound
+     */
+    public HttpServer start(int port) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(port), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", this::handle);
+        server.start();
+        logger.info("Replaying {} capture groups on port {} at speed {}", exact.size(), port, speed);
+        return server;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String uri = exchange.getRequestURI().getRawPath();
+            if (exchange.getRequestURI().getRawQuery() != null) {
+                uri += "?" + exchange.getRequestURI().getRawQuery();
+            }
+            String method = exchange.getRequestMethod();
+            exchange.getRequestBody().readAllBytes();
+
+            Captures captures = exact.get(method + " " + uri);
+            if (captures == null) {
+                captures = templated.get(method + " " + template(uri));
+            }
+            if (captures == null) {
+                logger.warn("No capture for {} {}", method, uri);
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+
+            TrafficRecord record = captures.next();
+            sleep(record.getLatencyNanos());
+
+            if (record.getContentType() != null) {
+                exchange.getResponseHeaders().set("Content-Type", record.getContentType());
+            }
+            byte[] body = record.getResponseBody();
+            exchange.sendResponseHeaders(record.getStatus(), body.length == 0 ? -1 : body.length);
+            if (body.length > 0) {
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void sleep(long recordedLatencyNanos) {
+        long nanos = (long) (recordedLatencyNanos / speed);
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String template(String path) {
+        int query = path.indexOf('?');
+        String bare = query >= 0 ? path.substring(0, query) : path;
+        return NUMERIC_SEGMENT.matcher(bare).replaceAll("/{id}");
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: TalonOneReplayServer <recording-file> [port] [speed]");
+            System.exit(1);
+        }
+        Path file = Paths.get(args[0]);
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : 8089;
+        double speed = args.length > 2 ? Double.parseDouble(args[2]) : 1.0;
+        new TalonOneReplayServer(TrafficRecordFile.readAll(file), speed).start(port);
+    }
+
+    /**
+     * Captures sharing a match key, served round-robin.
+     */
+    private static final class Captures {
+        private final List<TrafficRecord> records;
+        private final AtomicInteger cursor = new AtomicInteger();
+
+        private Captures(List<TrafficRecord> records) {
+            this.records = records;
+        }
+
+        private TrafficRecord next() {
+            return records.get(Math.floorMod(cursor.getAndIncrement(), records.size()));
+        }
+    }
+}
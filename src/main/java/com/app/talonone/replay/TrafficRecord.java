@@ -0,0 +1,22 @@
+package com.app.talonone.replay;
+
+import lombok.*;
+
+/**
+ * A single captured Talon.One request/response pair with its observed latency.
+ * Captures never contain headers, so credentials are not persisted.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TrafficRecord {
+    private long timestampMillis;
+    private long latencyNanos;
+    private String method;
+    private String path; // path and sanitized query, without scheme or host
+    private byte[] requestBody;
+    private int status;
+    private String contentType;
+    private byte[] responseBody;
+}
@@ -0,0 +1,129 @@
+package com.app.talonone.replay;
+
+import com.app.io.BackgroundAppender;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compact append-only binary file of {@link TrafficRecord}s.
+ * <p>
+ * Each record is written as: timestamp (long), latency (long), method (UTF), path (UTF),
+ * request body (int length + bytes), status (int), content type (UTF), response body (int length + bytes).
+ * Records are written by a {@link BackgroundAppender}, so recording never does file I/O on the
+ * calling thread; when its queue is full, records are dropped. A torn final record left by a crash
+ * is ignored when the file is read.
+ */
+public final class TrafficRecordFile implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrafficRecordFile.class);
+
+    private final DataOutputStream out;
+    private final BackgroundAppender<TrafficRecord> appender;
+
+    private TrafficRecordFile(DataOutputStream out) {
+        this.out = out;
+        this.appender = new BackgroundAppender<>("traffic-recorder", 10_000, out, this::write);
+    }
+
+    /**
+     * Opens a recording file for appending, creating it if necessary.
+     *
+     * @param path the recording file
+     * @return a writer appending to the file
+     * @throws IOException if the file cannot be opened
+     */
+    public static TrafficRecordFile openForAppend(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        return new TrafficRecordFile(new DataOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(path, StandardOpenOption.CREATE, StandardOpenOption.APPEND))));
+    }
+
+    /**
+     * Queues a record to be appended to the file.
+     *
+     * @param record the record to append
+     */
+    public void append(TrafficRecord record) {
+        if (!appender.offer(record)) {
+            logger.debug("Traffic record queue full, dropping {} {}", record.getMethod(), record.getPath());
+        }
+    }
+
+    private void write(TrafficRecord record) throws IOException {
+        out.writeLong(record.getTimestampMillis());
+        out.writeLong(record.getLatencyNanos());
+        out.writeUTF(record.getMethod());
+        out.writeUTF(record.getPath());
+        writeBytes(record.getRequestBody());
+        out.writeInt(record.getStatus());
+        out.writeUTF(record.getContentType() == null ? "" : record.getContentType());
+        writeBytes(record.getResponseBody());
+    }
+
+    /**
+     * Reads all records from a recording file. A truncated final record, left by a crash
+     * mid-write, is skipped.
+     *
+     * @param path the recording file
+     * @return the complete records in capture order
+     * @throws IOException if the file cannot be read
+     */
+    public static List<TrafficRecord> readAll(Path path) throws IOException {
+        List<TrafficRecord> records = new ArrayList<>();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            while (true) {
+                TrafficRecord record = new TrafficRecord();
+                try {
+                    record.setTimestampMillis(in.readLong());
+                    record.setLatencyNanos(in.readLong());
+                    record.setMethod(in.readUTF());
+                    record.setPath(in.readUTF());
+                    record.setRequestBody(readBytes(in));
+                    record.setStatus(in.readInt());
+                    String contentType = in.readUTF();
+                    record.setContentType(contentType.isEmpty() ? null : contentType);
+                    record.setResponseBody(readBytes(in));
+                } catch (EOFException eof) {
+                    break; // End of file, or a torn final record
+                }
+                records.add(record);
+            }
+        }
+        return records;
+    }
+
+    @Override
+    public void close() throws IOException {
+        appender.close();
+    }
+
+    private void writeBytes(byte[] bytes) throws IOException {
+        if (bytes == null) {
+            out.writeInt(0);
+            return;
+        }
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,59 @@
+package com.app.tracing;
+
+import com.app.io.BackgroundAppender;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Span exporter that appends spans as JSON lines to a local file, intended for testing and local analysis.
+ * <p>
+ * Spans are written by a {@link BackgroundAppender}; when its queue is full, spans are dropped
+ * rather than slowing down requests.
+ */
+public class FileSpanExporter implements SpanExporter, Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(FileSpanExporter.class);
+
+    private final ObjectMapper objectMapper;
+    private final BufferedWriter writer;
+    private final BackgroundAppender<List<TraceSpan>> appender;
+
+    public FileSpanExporter(Path file, ObjectMapper objectMapper) throws IOException {
+        this.objectMapper = objectMapper;
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        this.appender = new BackgroundAppender<>("span-exporter", 10_000, writer, this::write);
+    }
+
+    @Override
+    public void export(List<TraceSpan> spans) {
+        if (!appender.offer(spans)) {
+            logger.debug("Span queue full, dropping trace {}", spans.get(0).getTraceId());
+        }
+    }
+
+    private void write(List<TraceSpan> spans) throws IOException {
+        for (TraceSpan span : spans) {
+            writer.write(objectMapper.writeValueAsString(span));
+            writer.newLine();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        appender.close();
+    }
+}
@@ -0,0 +1,200 @@
+package com.app.tracing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Per-request record of stage durations, used for the Server-Timing header and trace spans.
+ * <p>
+ * The current request's timings are bound to the handling thread. Code that hands work to
+ * another thread (e.g. an evaluation lane) captures {@link #current()} and re-binds it on the
+ * worker with {@link #callWith(RequestTimings, Callable)}. When no request is bound, timing calls
+ * simply run the stage, so instrumented code works unchanged in scheduled jobs.
+ */
+public final class RequestTimings {
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+    private final String traceId;
+    private final boolean sampled;
+    private final long startNanos = System.nanoTime();
+    private final long startEpochMicros = System.currentTimeMillis() * 1000;
+    private final List<Stage> stages = new ArrayList<>();
+
+    public RequestTimings(String traceId, boolean sampled) {
+        this.traceId = traceId;
+        this.sampled = sampled;
+    }
+
+    /**
+     * Returns the timings bound to the current thread, or null if none.
+     */
+    public static RequestTimings current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Times a stage of the current request.
+     *
+     * @param stage the stage name, e.g. talonone.evaluateSession
+     * @param work the work to time
+     * @return the work's result
+     */
+    public static <T> T time(String stage, Supplier<T> work) {
+        RequestTimings timings = CURRENT.get();
+        if (timings == null) {
+            return work.get();
+        }
+        long start = System.nanoTime();
+        try {
+            return work.get();
+        } finally {
+            timings.add(stage, start, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Times a stage of the current request that produces no result.
+     *
+     * @param stage the stage name
+     * @param work the work to time
+     */
+    public static void run(String stage, Runnable work) {
+        time(stage, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * Times a non-blocking stage of the current request, from the call until its future completes.
+     * The timings are captured on the calling thread, so completion may happen on any thread.
+     *
+     * @param stage the stage name
+     * @param work starts the work
+     * @return the work's future
+     */
+    public static <T> CompletableFuture<T> timeAsync(String stage, Supplier<CompletableFuture<T>> work) {
+        return timeAsync(CURRENT.get(), stage, work);
+    }
+
+    /**
+     * Times a non-blocking stage against timings captured earlier, e.g. a stage started from
+     * another stage's completion callback, where no request is bound to the thread.
+     *
+     * @param timings the timings to record into, may be null
+     * @param stage the stage name
+     * @param work starts the work
+     * @return the work's future
+     */
+    public static <T> CompletableFuture<T> timeAsync(
+            RequestTimings timings, String stage, Supplier<CompletableFuture<T>> work) {
+        if (timings == null) {
+            return work.get();
+        }
+        long start = System.nanoTime();
+        return work.get().whenComplete((result, ex) -> timings.add(stage, start, System.nanoTime() - start));
+    }
+
+    /**
+     * Records a stage measured by the caller, e.g. time spent waiting in a queue.
+     *
+     * @param stage the stage name
+     * @param startNanos the {@link System#nanoTime()} at which the stage started
+     * @param durationNanos the stage duration
+     */
+    public static void record(String stage, long startNanos, long durationNanos) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.add(stage, startNanos, durationNanos);
+        }
+    }
+
+    /**
+     * Runs work with the given timings bound to the current thread, restoring the previous binding after.
+     *
+     * @param timings the timings to bind, may be null
+     * @param work the work to run
+     * @return the work's result
+     */
+    public static <T> T callWith(RequestTimings timings, Callable<T> work) throws Exception {
+        RequestTimings previous = CURRENT.get();
+        CURRENT.set(timings);
+        try {
+            return work.call();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    public String getTraceId() {
+        return traceId;
+    }
+
+    public boolean isSampled() {
+        return sampled;
+    }
+
+    /**
+     * Formats the recorded stages as a Server-Timing header value, ending with the total.
+     *
+     * @return e.g. "db.findUser;dur=0.84, talonone.evaluateSession;dur=41.20, total;dur=45.02"
+     */
+    public String toServerTimingHeader() {
+        StringBuilder header = new StringBuilder(64);
+        synchronized (stages) {
+            for (Stage stage : stages) {
+                appendMetric(header, stage.name, stage.durationNanos);
+            }
+        }
+        appendMetric(header, "total", System.nanoTime() - startNanos);
+        return header.toString();
+    }
+
+    /**
+     * Converts the recorded stages into trace spans.
+     *
+     * @param rootName name of the root span covering the whole request
+     * @return the root span followed by one span per stage
+     */
+    public List<TraceSpan> toSpans(String rootName) {
+        List<TraceSpan> spans = new ArrayList<>();
+        spans.add(new TraceSpan(traceId, rootName, startEpochMicros, (System.nanoTime() - startNanos) / 1000));
+        synchronized (stages) {
+            for (Stage stage : stages) {
+                long offsetMicros = (stage.startNanos - startNanos) / 1000;
+                spans.add(new TraceSpan(traceId, stage.name, startEpochMicros + offsetMicros, stage.durationNanos / 1000));
+            }
+        }
+        return spans;
+    }
+
+    private void add(String name, long start, long durationNanos) {
+        synchronized (stages) {
+            stages.add(new Stage(name, start, durationNanos));
+        }
+    }
+
+    private static void appendMetric(StringBuilder header, String name, long durationNanos) {
+        if (!header.isEmpty()) {
+            header.append(", ");
+        }
+        long hundredths = durationNanos / 10_000;
+        header.append(name).append(";dur=").append(hundredths / 100).append('.');
+        long fraction = hundredths % 100;
+        if (fraction < 10) {
+            header.append('0');
+        }
+        header.append(fraction);
+    }
+
+    private record Stage(String name, long startNanos, long durationNanos) {
+    }
+}
@@ -0,0 +1,42 @@
+package com.app.tracing;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Sets the {@code Server-Timing} header on responses of requests timed by {@link ServerTimingFilter}.
+ * <p>
+ * Runs after the handler (or exception handler) has returned and before the body is written, so the
+ * header is added while the response is still uncommitted and without buffering the body. Requests
+ * not covered by the filter carry no timings and are left untouched.
+ */
+@ControllerAdvice
+public class ServerTimingAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+            Object body,
+            MethodParameter returnType,
+            MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request,
+            ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest
+                && servletRequest.getServletRequest().getAttribute(ServerTimingFilter.TIMINGS_ATTRIBUTE)
+                instanceof RequestTimings timings) {
+            response.getHeaders().set("Server-Timing", timings.toServerTimingHeader());
+        }
+        return body;
+    }
+}
@@ -0,0 +1,116 @@
+package com.app.tracing;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Filter that binds {@link RequestTimings} to each request, for the {@code Server-Timing} response
+ * header written by {@link ServerTimingAdvice}.
+ * <p>
+ * The timings are also exposed as the {@link #TIMINGS_ATTRIBUTE} request attribute, so the header
+ * can be set just before the body is written, including on the async dispatch of a request whose
+ * handler returned a future. The response is never buffered. A sampled fraction of requests is
+ * exported as trace spans when an exporter is configured, once the request (or its async
+ * processing) completes.
+ */
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ServerTimingFilter.class);
+
+    /**
+     * Request attribute holding the request's {@link RequestTimings}.
+     */
+    public static final String TIMINGS_ATTRIBUTE = RequestTimings.class.getName();
+
+    private final SpanExporter spanExporter;
+    private final double sampleRate;
+
+    /**
+     * @param spanExporter the exporter for sampled requests, may be null to disable tracing
+     * @param sampleRate fraction of requests exported as spans, between 0 and 1
+     */
+    public ServerTimingFilter(SpanExporter spanExporter, double sampleRate) {
+        this.spanExporter = spanExporter;
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        boolean sampled = spanExporter != null && ThreadLocalRandom.current().nextDouble() < sampleRate;
+        RequestTimings timings = new RequestTimings(sampled ? UUID.randomUUID().toString() : null, sampled);
+        request.setAttribute(TIMINGS_ATTRIBUTE, timings);
+
+        try {
+            RequestTimings.callWith(timings, () -> {
+                filterChain.doFilter(request, response);
+                return null;
+            });
+        } catch (IOException | ServletException | RuntimeException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new ServletException(ex);
+        } finally {
+            if (sampled) {
+                if (request.isAsyncStarted()) {
+                    request.getAsyncContext().addListener(new ExportOnComplete(timings, request));
+                } else {
+                    exportQuietly(timings, request);
+                }
+            }
+        }
+    }
+
+    private void exportQuietly(RequestTimings timings, HttpServletRequest request) {
+        try {
+            spanExporter.export(timings.toSpans(request.getMethod() + " " + request.getRequestURI()));
+        } catch (RuntimeException ex) {
+            logger.warn("Failed to export spans: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Exports the spans of an async request once its processing has completed.
+     */
+    private final class ExportOnComplete implements AsyncListener {
+
+        private final RequestTimings timings;
+        private final HttpServletRequest request;
+
+        private ExportOnComplete(RequestTimings timings, HttpServletRequest request) {
+            this.timings = timings;
+            this.request = request;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            exportQuietly(timings, request);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
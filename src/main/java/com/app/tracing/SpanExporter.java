@@ -0,0 +1,17 @@
+package com.app.tracing;
+
+import java.util.List;
+
+/**
+ * Destination for the trace spans of sampled requests.
+ * Implementations must not block the calling request thread for long.
+ */
+public interface SpanExporter {
+
+    /**
+     * Exports the spans of one request.
+     *
+     * @param spans the root span followed by its stage spans
+     */
+    void export(List<TraceSpan> spans);
+}
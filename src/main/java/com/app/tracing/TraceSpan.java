@@ -0,0 +1,17 @@
+package com.app.tracing;
+
+import lombok.*;
+
+/**
+ * A timed stage of a request, exported to a {@link SpanExporter} when the request is sampled.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TraceSpan {
+    private String traceId;
+    private String name;
+    private long startEpochMicros;
+    private long durationMicros;
+}
@@ -0,0 +1,109 @@
+package com.app.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Routes transactions between two embedded H2 databases standing in for the primary and the replica.
+ * Each database holds a single row naming itself, so a query shows which one served it.
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private EmbeddedDatabase primary;
+    private EmbeddedDatabase replica;
+    private ReadWriteRoutingDataSource routing;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        primary = embedded("primary");
+        replica = embedded("replica");
+
+        routing = new ReadWriteRoutingDataSource();
+        routing.setTargetDataSources(Map.of(
+                ReadWriteRoutingDataSource.PRIMARY, primary,
+                ReadWriteRoutingDataSource.REPLICA, replica));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbc = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        primary.shutdown();
+        replica.shutdown();
+    }
+
+    @Test
+    void readWriteTransactionUsesPrimary() {
+        assertEquals("primary", readWrite.execute(status -> servedBy()));
+        assertEquals(1, routing.getRouteCount(ReadWriteRoutingDataSource.PRIMARY));
+        assertEquals(0, routing.getRouteCount(ReadWriteRoutingDataSource.REPLICA));
+    }
+
+    @Test
+    void readOnlyTransactionUsesReplica() {
+        assertEquals("replica", readOnly.execute(status -> servedBy()));
+        assertEquals(0, routing.getRouteCount(ReadWriteRoutingDataSource.PRIMARY));
+        assertEquals(1, routing.getRouteCount(ReadWriteRoutingDataSource.REPLICA));
+    }
+
+    @Test
+    void readOnlyTransactionPinnedToPrimaryUsesPrimary() {
+        assertEquals("primary", DataSourceRouting.onPrimary(() -> readOnly.execute(status -> servedBy())));
+        assertEquals("replica", readOnly.execute(status -> servedBy()));
+    }
+
+    @Test
+    void recentWriterReadsFromPrimaryWhileOthersUseReplica() {
+        ReadYourWritesGuard guard = new ReadYourWritesGuard(Duration.ofMinutes(1));
+        guard.markWrite(1L);
+
+        assertEquals("primary", guard.read(1L, () -> readOnly.execute(status -> servedBy())));
+        assertEquals("replica", guard.read(2L, () -> readOnly.execute(status -> servedBy())));
+    }
+
+    @Test
+    void writeOutsideTheGuardWindowReadsFromReplica() {
+        ReadYourWritesGuard guard = new ReadYourWritesGuard(Duration.ZERO);
+        guard.markWrite(1L);
+
+        assertEquals("replica", guard.read(1L, () -> readOnly.execute(status -> servedBy())));
+    }
+
+    private String servedBy() {
+        return jdbc.queryForObject("select name from db_role", String.class);
+    }
+
+    private static EmbeddedDatabase embedded(String role) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName(role + "-" + System.nanoTime())
+                .build();
+        JdbcTemplate jdbc = new JdbcTemplate(database);
+        jdbc.execute("create table db_role (name varchar(16))");
+        jdbc.update("insert into db_role (name) values (?)", role);
+        return database;
+    }
+}